@@ -54,10 +54,12 @@ import com.voxelgameslib.voxelgameslib.components.placeholders.SignHandler;
 import com.voxelgameslib.voxelgameslib.components.placeholders.SignListener;
 import com.voxelgameslib.voxelgameslib.components.placeholders.SignPlaceholders;
 import com.voxelgameslib.voxelgameslib.components.points.PointHandler;
+import com.voxelgameslib.voxelgameslib.components.scoreboard.ScoreboardHandler;
 import com.voxelgameslib.voxelgameslib.components.team.TeamHandler;
 import com.voxelgameslib.voxelgameslib.components.user.User;
 import com.voxelgameslib.voxelgameslib.components.user.UserHandler;
 import com.voxelgameslib.voxelgameslib.components.user.UserListener;
+import com.voxelgameslib.voxelgameslib.components.world.CreatureSpawnDispatcher;
 import com.voxelgameslib.voxelgameslib.components.world.WorldHandler;
 import com.voxelgameslib.voxelgameslib.internal.config.ConfigHandler;
 import com.voxelgameslib.voxelgameslib.internal.error.ErrorHandler;
@@ -153,6 +155,8 @@ public final class VoxelGamesLib extends JavaPlugin {
     private TextureHandler textureHandler;
     @Inject
     private StatsHandler statsHandler;
+    @Inject
+    private ScoreboardHandler scoreboardHandler;
 
     @Inject
     private TestStuff testStuff;
@@ -232,6 +236,7 @@ public final class VoxelGamesLib extends JavaPlugin {
                 commandHandler.enable();
                 textureHandler.enable();
                 statsHandler.enable();
+                scoreboardHandler.enable();
 
                 gameHandler.enable();
             }
@@ -292,6 +297,7 @@ public final class VoxelGamesLib extends JavaPlugin {
                 commandHandler.disable();
                 textureHandler.disable();
                 statsHandler.disable();
+                scoreboardHandler.disable();
 
                 gameHandler.disable();
                 moduleHandler.disable();
@@ -417,6 +423,7 @@ public final class VoxelGamesLib extends JavaPlugin {
         pm.registerEvents(injector.getInstance(SignButtons.class), this);
         pm.registerEvents(injector.getInstance(CommandHandler.class), this);
         pm.registerEvents(injector.getInstance(StatListener.class), this);
+        pm.registerEvents(injector.getInstance(CreatureSpawnDispatcher.class), this);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.google.gson.annotations.Expose;
 
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.voxelgameslib.voxelgameslib.api.feature.Feature;
@@ -11,6 +12,8 @@ import com.voxelgameslib.voxelgameslib.api.phase.Phase;
 import com.voxelgameslib.voxelgameslib.components.team.Team;
 import com.voxelgameslib.voxelgameslib.components.user.User;
 
+import org.bukkit.event.Event;
+
 public abstract class AbstractVictoryCondition implements VictoryCondition {
 
     @Expose
@@ -51,6 +54,12 @@ public abstract class AbstractVictoryCondition implements VictoryCondition {
         return Collections.emptyList();
     }
 
+    @Nonnull
+    @Override
+    public List<Class<? extends Event>> getTriggerEvents() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String getName() {
         if (getClass().isAnnotationPresent(VictoryConditionInfo.class)) {
@@ -1,6 +1,7 @@
 package com.voxelgameslib.voxelgameslib.api.condition;
 
 import java.util.List;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.voxelgameslib.voxelgameslib.api.feature.Feature;
@@ -8,6 +9,8 @@ import com.voxelgameslib.voxelgameslib.api.phase.Phase;
 import com.voxelgameslib.voxelgameslib.components.team.Team;
 import com.voxelgameslib.voxelgameslib.components.user.User;
 
+import org.bukkit.event.Event;
+
 public interface VictoryCondition {
 
     /**
@@ -19,6 +22,15 @@ public interface VictoryCondition {
 
     List<Class<? extends Feature>> getDependencies();
 
+    /**
+     * The events after which this condition could be completed. The phase only checks the conditions after one of these
+     * events was called, and once every second for conditions that don't depend on events.
+     *
+     * @return the events that can change the outcome of this condition
+     */
+    @Nonnull
+    List<Class<? extends Event>> getTriggerEvents();
+
     Phase getPhase();
 
     @Nullable
@@ -10,6 +10,7 @@ import com.voxelgameslib.voxelgameslib.api.event.GameEvent;
 import com.voxelgameslib.voxelgameslib.api.feature.Feature;
 import com.voxelgameslib.voxelgameslib.api.feature.features.DuelFeature;
 
+import org.bukkit.event.Event;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 
@@ -21,6 +22,12 @@ public class DuelVictoryCondition extends AbstractVictoryCondition implements Li
         return Collections.singletonList(DuelFeature.class);
     }
 
+    @Nonnull
+    @Override
+    public List<Class<? extends Event>> getTriggerEvents() {
+        return Collections.singletonList(PlayerDeathEvent.class);
+    }
+
     @GameEvent
     public void onDeath(@Nonnull PlayerDeathEvent e) {
         if (completed()) return;
@@ -4,6 +4,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -25,6 +26,7 @@ import com.voxelgameslib.voxelgameslib.components.user.UserHandler;
 import com.voxelgameslib.voxelgameslib.internal.handler.Handler;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -32,6 +34,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.plugin.EventExecutor;
 
 @Singleton
@@ -80,6 +83,7 @@ public class EventHandler implements Handler, Listener {
                         if (annotation.filterSpectators()) {
                             registeredListener.addFilter(filterSpectators);
                         }
+                        registeredListener.setOnlyBlockChanges(annotation.onlyBlockChanges());
 
                         activeListeners.computeIfAbsent(game.getUuid(), (key) -> new CopyOnWriteArrayList<>()).add(registeredListener);
 
@@ -121,6 +125,54 @@ public class EventHandler implements Handler, Listener {
         HandlerList.unregisterAll(listener);
     }
 
+    /**
+     * Searches for listeners that belong to games that are no longer running. These listeners would never be called
+     * correctly again and keep the game in memory, so they are unregistered.<br>
+     * Only listeners that were registered via {@link #registerEvents(Listener, Game)} are known here, listeners that
+     * were registered with bukkit directly need to be cleaned up by whoever registered them.
+     *
+     * @param liveGames the games that are still running
+     * @return the leaked listeners that were found
+     */
+    @Nonnull
+    public List<RegisteredListener> checkForLeaks(@Nonnull Collection<Game> liveGames) {
+        Set<UUID> live = new HashSet<>();
+        liveGames.forEach(game -> live.add(game.getUuid()));
+
+        List<RegisteredListener> leaked = new ArrayList<>();
+        activeEvents.values().forEach(listeners -> listeners.forEach(registeredListener -> {
+            if (!live.contains(registeredListener.getGame().getUuid())) {
+                leaked.add(registeredListener);
+            }
+        }));
+
+        if (!leaked.isEmpty()) {
+            Set<Listener> leakedListeners = new HashSet<>();
+            for (RegisteredListener registeredListener : leaked) {
+                log.warning("Listener " + registeredListener.getListener().getClass().getName() + "#" + registeredListener.getMethod().getName()
+                        + " for " + registeredListener.getEventClass().getSimpleName() + " is still registered for ended game " + registeredListener.getGame().getUuid());
+                activeEvents.get(registeredListener.getEventClass()).remove(registeredListener);
+                leakedListeners.add(registeredListener.getListener());
+            }
+            // bukkit holds on to the listener too, if it was registered there (raw or @EventHandler methods)
+            leakedListeners.forEach(HandlerList::unregisterAll);
+            activeListeners.keySet().removeIf(uuid -> !live.contains(uuid));
+        }
+
+        return leaked;
+    }
+
+    /**
+     * @return the number of game listeners that are currently registered
+     */
+    public int getListenerCount() {
+        int count = 0;
+        for (List<RegisteredListener> listeners : activeEvents.values()) {
+            count += listeners.size();
+        }
+        return count;
+    }
+
     @Override
     public void enable() {
 
@@ -134,9 +186,15 @@ public class EventHandler implements Handler, Listener {
     @SuppressWarnings("unchecked")
     public <T extends Event> void callEvent(@Nonnull T event) {
         Class<Event> eventClass = (Class<Event>) event.getClass();
+        // only check once per event, this is a hot path
+        boolean blockChanged = !(event instanceof PlayerMoveEvent) || hasChangedBlock((PlayerMoveEvent) event);
         while (!eventClass.equals(Object.class)) {
             if (activeEvents.containsKey(eventClass)) {
                 activeEvents.get(eventClass).forEach(registeredListener -> {
+                    if (!blockChanged && registeredListener.isOnlyBlockChanges()) {
+                        return;
+                    }
+
                     Optional<User> user = Optional.empty();
                     boolean tried = false;
                     for (EventFilter filter : registeredListener.getFilters()) {
@@ -166,6 +224,32 @@ public class EventHandler implements Handler, Listener {
         }
     }
 
+    /**
+     * Checks if an event is relevant for a game, that is if the user the event is about plays or spectates in that
+     * game. Events that can't be attributed to a user are considered relevant for every game.
+     *
+     * @param event the event to check
+     * @param game  the game to check against
+     * @return if the event concerns the game
+     */
+    public boolean concernsGame(@Nonnull Event event, @Nonnull Game game) {
+        return figureOutUser(event).map(user -> game.isPlaying(user.getUuid()) || game.isSpectating(user.getUuid())).orElse(true);
+    }
+
+    /**
+     * Checks if a move event moved the player into another block, so not only rotated the head or moved within the
+     * block
+     *
+     * @param event the event to check
+     * @return if the block position changed
+     */
+    private boolean hasChangedBlock(@Nonnull PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        return to == null || from.getBlockX() != to.getBlockX() || from.getBlockY() != to.getBlockY() || from.getBlockZ() != to.getBlockZ()
+                || from.getWorld() != to.getWorld();
+    }
+
     @Nonnull
     private <T extends Event> Optional<User> figureOutUser(@Nonnull T event) {
         if (event instanceof PlayerEvent) {
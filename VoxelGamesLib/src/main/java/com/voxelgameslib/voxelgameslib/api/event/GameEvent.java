@@ -18,4 +18,10 @@ public @interface GameEvent {
      * @return True when this method should only be called when the player is spectating in the right game
      */
     boolean filterSpectators() default false;
+
+    /**
+     * @return True when a {@link org.bukkit.event.player.PlayerMoveEvent} should only be passed to this method if the
+     * player moved to another block, ignoring head rotations and movement within a block
+     */
+    boolean onlyBlockChanges() default false;
 }
@@ -16,6 +16,7 @@ public class RegisteredListener {
     private Class<Event> eventClass;
     private Method method;
     private List<EventFilter> filters;
+    private boolean onlyBlockChanges;
 
     @java.beans.ConstructorProperties({"listener", "game", "eventClass", "method", "filters"})
     public RegisteredListener(Listener listener, Game game, Class<Event> eventClass, Method method, List<EventFilter> filters) {
@@ -50,6 +51,14 @@ public class RegisteredListener {
         return this.filters;
     }
 
+    public boolean isOnlyBlockChanges() {
+        return this.onlyBlockChanges;
+    }
+
+    public void setOnlyBlockChanges(boolean onlyBlockChanges) {
+        this.onlyBlockChanges = onlyBlockChanges;
+    }
+
     public void setListener(Listener listener) {
         this.listener = listener;
     }
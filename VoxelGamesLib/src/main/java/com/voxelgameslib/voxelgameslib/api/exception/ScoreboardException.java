@@ -15,4 +15,14 @@ public class ScoreboardException extends VoxelGameLibException {
     public ScoreboardException(@Nonnull String message) {
         super(message);
     }
+
+    /**
+     * Used for problems related to scoreboards
+     *
+     * @param message the message that explains the problem
+     * @param ex      the exception that was originally thrown
+     */
+    public ScoreboardException(@Nonnull String message, @Nonnull Exception ex) {
+        super(message, ex);
+    }
 }
@@ -1,7 +1,7 @@
 package com.voxelgameslib.voxelgameslib.api.feature.features;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 
@@ -21,13 +21,11 @@ import org.bukkit.event.player.PlayerToggleFlightEvent;
 @FeatureInfo(name = "DoubleJumpFeature", author = "MiniDigger", version = "1.0", description = "Lets player jump higher")
 public class DoubleJumpFeature extends AbstractFeature {
 
-    private List<UUID> disabled = new ArrayList<UUID>();
+    private Set<UUID> disabled = new HashSet<>();
 
     public void setDisable(@Nonnull UUID id, boolean disable) {
         if (disable) {
-            if (!disabled.contains(id)) {
-                disabled.add(id);
-            }
+            disabled.add(id);
         } else {
             disabled.remove(id);
         }
@@ -62,10 +60,10 @@ public class DoubleJumpFeature extends AbstractFeature {
         }
     }
 
-    @GameEvent
+    @GameEvent(onlyBlockChanges = true)
     public void e(@Nonnull PlayerMoveEvent event) {
         Player player = event.getPlayer();
-        if (player.getLocation().getBlock().getRelative(0, -1, 0).getType() != Material.AIR && (!player.isFlying())) {
+        if (!player.isFlying() && player.getLocation().getBlock().getRelative(0, -1, 0).getType() != Material.AIR) {
             player.setAllowFlight(true);
         }
     }
@@ -1,19 +1,31 @@
 package com.voxelgameslib.voxelgameslib.api.feature.features;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.voxelgameslib.voxelgameslib.api.event.GameEvent;
 import com.voxelgameslib.voxelgameslib.api.feature.AbstractFeature;
+import com.voxelgameslib.voxelgameslib.api.feature.Feature;
 import com.voxelgameslib.voxelgameslib.api.feature.FeatureInfo;
+import com.voxelgameslib.voxelgameslib.internal.math.Vector3D;
 
+import org.bukkit.Chunk;
 import org.bukkit.Effect;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.Tag;
-import org.bukkit.block.BlockFace;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
 import org.bukkit.block.Sign;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.SignChangeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.util.Vector;
 
@@ -22,36 +34,140 @@ public class JumpPadFeature extends AbstractFeature {
 
     private static final Logger log = Logger.getLogger(JumpPadFeature.class.getName());
 
+    private static final JumpPad DEFAULT_PAD = new JumpPad(1.5, 1);
+
+    /**
+     * The [Boom] signs found on the map, keyed by the packed position of the pressure plate two blocks above the sign
+     */
+    private final Map<Long, JumpPad> pads = new HashMap<>();
+
+    @Override
+    public void enable() {
+        MapFeature mapFeature = getPhase().getFeature(MapFeature.class);
+        World world = mapFeature.getWorld();
+        Vector3D center = mapFeature.getMap().getCenter();
+        int range = mapFeature.getMap().getRadius();
+
+        int minX = (int) center.getX() - range;
+        int minZ = (int) center.getZ() - range;
+        int maxX = (int) center.getX() + range;
+        int maxZ = (int) center.getZ() + range;
+
+        // only look at chunks that are already loaded, pads in other chunks are read when they are first stepped on
+        for (int x = minX; x <= maxX; x += 16) {
+            for (int z = minZ; z <= maxZ; z += 16) {
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                    continue;
+                }
+                Chunk chunk = world.getChunkAt(x >> 4, z >> 4);
+                for (BlockState te : chunk.getTileEntities()) {
+                    if (te instanceof Sign) {
+                        addPad((Sign) te);
+                    }
+                }
+            }
+        }
+        log.finer("Found " + pads.size() + " jump pads in loaded chunks");
+    }
+
+    @Override
+    public void disable() {
+        pads.clear();
+    }
+
+    @Nonnull
+    @Override
+    public List<Class<? extends Feature>> getDependencies() {
+        return Collections.singletonList(MapFeature.class);
+    }
+
+    private void addPad(@Nonnull Sign sign) {
+        JumpPad pad = parse(sign.getLines(), sign.getBlock());
+        if (pad != null) {
+            pads.put(pack(sign.getX(), sign.getY() + 2, sign.getZ()), pad);
+        }
+    }
+
+    /**
+     * Reads the pad for a pressure plate that wasn't seen yet from the sign two blocks below it
+     */
+    @Nonnull
+    private JumpPad readPad(@Nonnull Block plate) {
+        BlockState state = plate.getRelative(0, -2, 0).getState();
+        if (state instanceof Sign) {
+            JumpPad pad = parse(((Sign) state).getLines(), state.getBlock());
+            if (pad != null) {
+                return pad;
+            }
+        }
+        return DEFAULT_PAD;
+    }
+
+    @Nullable
+    private JumpPad parse(@Nonnull String[] lines, @Nonnull Block block) {
+        if (!lines[0].contains("[Boom]")) {
+            return null;
+        }
+
+        try {
+            return new JumpPad(Double.parseDouble(lines[1]), Double.parseDouble(lines[2]));
+        } catch (final Exception ex) {
+            log.warning("Invalid boom sign at " + block.getLocation());
+            return DEFAULT_PAD;
+        }
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (long) y & 0xFFF;
+    }
+
+    @GameEvent
+    public void onSignChange(@Nonnull SignChangeEvent event) {
+        JumpPad pad = parse(event.getLines(), event.getBlock());
+        long key = pack(event.getBlock().getX(), event.getBlock().getY() + 2, event.getBlock().getZ());
+        if (pad != null) {
+            pads.put(key, pad);
+        } else {
+            pads.remove(key);
+        }
+    }
+
+    @GameEvent
+    public void onBreak(@Nonnull BlockBreakEvent event) {
+        if (!pads.isEmpty()) {
+            pads.remove(pack(event.getBlock().getX(), event.getBlock().getY() + 2, event.getBlock().getZ()));
+        }
+    }
+
     @GameEvent
     public void onStep(@Nonnull PlayerInteractEvent event) {
         if (event.getAction() == Action.PHYSICAL) {
-
-            if (!Tag.WOODEN_PRESSURE_PLATES.isTagged(event.getClickedBlock().getType()) &&
-                    event.getClickedBlock().getType() != Material.STONE_PRESSURE_PLATE) {
+            Block block = event.getClickedBlock();
+            if (!Tag.WOODEN_PRESSURE_PLATES.isTagged(block.getType()) &&
+                    block.getType() != Material.STONE_PRESSURE_PLATE) {
                 return;
             }
             if (event.isCancelled()) {
                 return;
             }
-            double strength = 1.5;
-            double up = 1;
-            if (event.getClickedBlock().getRelative(BlockFace.DOWN, 2).getState() instanceof Sign) {
-                Sign sign = (Sign) event.getClickedBlock().getRelative(BlockFace.DOWN, 2).getState();
-                if (sign.getLine(0).contains("[Boom]")) {
-                    try {
-                        strength = Double.parseDouble(sign.getLine(1));
-                        up = Double.parseDouble(sign.getLine(2));
-                    } catch (final Exception ex) {
-                        log.warning("Invalid boom sign at " + sign.getLocation());
-                    }
-                }
-            }
+            JumpPad pad = pads.computeIfAbsent(pack(block.getX(), block.getY(), block.getZ()), key -> readPad(block));
 
             event.getPlayer().playSound(event.getPlayer().getLocation(), Sound.ENTITY_ENDER_DRAGON_SHOOT, 10.0F, 1.0F);
             event.getPlayer().playEffect(event.getPlayer().getLocation(), Effect.SMOKE, 10);
-            Vector v = event.getPlayer().getLocation().getDirection().multiply(strength / 2).setY(up / 2);
+            Vector v = event.getPlayer().getLocation().getDirection().multiply(pad.strength / 2).setY(pad.up / 2);
             event.getPlayer().setVelocity(v);
             event.setCancelled(true);
         }
     }
+
+    private static class JumpPad {
+
+        private final double strength;
+        private final double up;
+
+        JumpPad(double strength, double up) {
+            this.strength = strength;
+            this.up = up;
+        }
+    }
 }
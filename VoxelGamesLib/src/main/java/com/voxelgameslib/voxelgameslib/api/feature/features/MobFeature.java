@@ -4,22 +4,28 @@ import com.google.gson.annotations.Expose;
 
 import org.apache.commons.lang.ArrayUtils;
 
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.inject.Inject;
 
 import com.voxelgameslib.voxelgameslib.api.feature.AbstractFeature;
 import com.voxelgameslib.voxelgameslib.api.feature.Feature;
+import com.voxelgameslib.voxelgameslib.components.world.CreatureSpawnDispatcher;
 import com.voxelgameslib.voxelgameslib.util.utils.EntityUtil;
 
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.CreatureSpawnEvent;
 
 public class MobFeature extends AbstractFeature {
 
+    @Inject
+    private CreatureSpawnDispatcher creatureSpawnDispatcher;
+
     @Expose
     private EntityType[] whitelist = new EntityType[0];
     @Expose
@@ -29,7 +35,10 @@ public class MobFeature extends AbstractFeature {
     @Expose
     private boolean denySpawn = true;
 
-    private String worldName;
+    private World world;
+    private String previousMobSpawning;
+    private Set<EntityType> whitelistTypes = EnumSet.noneOf(EntityType.class);
+    private Set<EntityType> blacklistTypes = EnumSet.noneOf(EntityType.class);
 
     public MobFeature() {
         setWhitelist(EntityUtil.getAll(EntityUtil.Type.OTHER, EntityUtil.Type.UTILITY, EntityUtil.Type.PROJECTILE));
@@ -40,7 +49,7 @@ public class MobFeature extends AbstractFeature {
     }
 
     public void addWhitelist(@Nonnull EntityType... whitelist) {
-        ArrayUtils.addAll(this.whitelist, whitelist);
+        this.whitelist = (EntityType[]) ArrayUtils.addAll(this.whitelist, whitelist);
     }
 
     public void setBlacklist(@Nonnull EntityType... blacklist) {
@@ -48,28 +57,66 @@ public class MobFeature extends AbstractFeature {
     }
 
     public void addBlacklist(@Nonnull EntityType... blacklist) {
-        ArrayUtils.addAll(this.blacklist, blacklist);
+        this.blacklist = (EntityType[]) ArrayUtils.addAll(this.blacklist, blacklist);
     }
 
     @Override
     public void enable() {
-        worldName = getPhase().getFeature(MapFeature.class).getWorld().getName();
+        world = getPhase().getFeature(MapFeature.class).getWorld();
+
+        whitelistTypes = EnumSet.noneOf(EntityType.class);
+        Collections.addAll(whitelistTypes, whitelist);
+        blacklistTypes = EnumSet.noneOf(EntityType.class);
+        Collections.addAll(blacklistTypes, blacklist);
 
         if (removeExisting) {
-            for (Entity entity : getPhase().getFeature(MapFeature.class).getWorld().getEntities()) {
-                if (blacklist.length != 0) {
-                    if (Arrays.stream(blacklist).anyMatch(m -> m.equals(entity.getType()))) {
-                        entity.remove();
-                    }
-                } else if (whitelist.length != 0) {
-                    if (Arrays.stream(whitelist).noneMatch(m -> m.equals(entity.getType()))) {
-                        entity.remove();
-                    }
-                } else {
+            for (Entity entity : world.getEntities()) {
+                if (isDenied(entity.getType())) {
                     entity.remove();
                 }
             }
         }
+
+        creatureSpawnDispatcher.register(world, this);
+
+        // no need to let the server try to spawn mobs if we would cancel all of them anyway
+        if (denySpawn && deniesAllMobs()) {
+            previousMobSpawning = world.getGameRuleValue("doMobSpawning");
+            world.setGameRuleValue("doMobSpawning", "false");
+        }
+    }
+
+    @Override
+    public void disable() {
+        if (world == null) {
+            return;
+        }
+
+        creatureSpawnDispatcher.unregister(world, this);
+
+        if (previousMobSpawning != null) {
+            world.setGameRuleValue("doMobSpawning", previousMobSpawning);
+            previousMobSpawning = null;
+        }
+    }
+
+    private boolean deniesAllMobs() {
+        for (EntityType type : EntityType.values()) {
+            if (type.isAlive() && type.isSpawnable() && !isDenied(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDenied(@Nonnull EntityType type) {
+        if (!blacklistTypes.isEmpty()) {
+            return blacklistTypes.contains(type);
+        } else if (!whitelistTypes.isEmpty()) {
+            return !whitelistTypes.contains(type);
+        } else {
+            return true;
+        }
     }
 
     @Nonnull
@@ -78,7 +125,11 @@ public class MobFeature extends AbstractFeature {
         return Collections.singletonList(MapFeature.class);
     }
 
-    @EventHandler
+    /**
+     * Called by the {@link CreatureSpawnDispatcher} for spawns in the world of this feature
+     *
+     * @param event the spawn event
+     */
     public void onSpawn(@Nonnull CreatureSpawnEvent event) {
         if (event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.CUSTOM ||
                 event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.SPAWNER_EGG) {
@@ -87,19 +138,8 @@ public class MobFeature extends AbstractFeature {
         if (!denySpawn) {
             return;
         }
-        if (!event.getLocation().getWorld().getName().equals(worldName)) {
-            return;
-        }
 
-        if (blacklist.length != 0) {
-            if (Arrays.stream(blacklist).anyMatch(m -> m.equals(event.getEntityType()))) {
-                event.setCancelled(true);
-            }
-        } else if (whitelist.length != 0) {
-            if (Arrays.stream(whitelist).noneMatch(m -> m.equals(event.getEntityType()))) {
-                event.setCancelled(true);
-            }
-        } else {
+        if (isDenied(event.getEntityType())) {
             event.setCancelled(true);
         }
     }
@@ -2,7 +2,9 @@ package com.voxelgameslib.voxelgameslib.api.feature.features;
 
 import com.google.gson.annotations.Expose;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import javax.annotation.Nonnull;
 
 import com.voxelgameslib.voxelgameslib.api.event.GameEvent;
@@ -21,6 +23,9 @@ public class NoBlockBreakFeature extends AbstractFeature {
     @Expose
     private Material[] blacklist = new Material[0];
 
+    private Set<Material> whitelistMaterials = EnumSet.noneOf(Material.class);
+    private Set<Material> blacklistMaterials = EnumSet.noneOf(Material.class);
+
     /**
      * Sets the list with whitelisted materials. Enabling the whitelist means that ppl are allowed to break only
      * materials which are on the whitelist. to disabled the whitelist, pass an empty array.
@@ -41,15 +46,23 @@ public class NoBlockBreakFeature extends AbstractFeature {
         this.blacklist = blacklist;
     }
 
+    @Override
+    public void enable() {
+        whitelistMaterials = EnumSet.noneOf(Material.class);
+        Collections.addAll(whitelistMaterials, whitelist);
+        blacklistMaterials = EnumSet.noneOf(Material.class);
+        Collections.addAll(blacklistMaterials, blacklist);
+    }
+
     @SuppressWarnings({"JavaDoc", "Duplicates"})
     @GameEvent
     public void onBlockBreak(@Nonnull BlockBreakEvent event) {
-        if (blacklist.length != 0) {
-            if (Arrays.stream(blacklist).anyMatch(m -> m.equals(event.getBlock().getType()))) {
+        if (!blacklistMaterials.isEmpty()) {
+            if (blacklistMaterials.contains(event.getBlock().getType())) {
                 event.setCancelled(true);
             }
-        } else if (whitelist.length != 0) {
-            if (Arrays.stream(whitelist).noneMatch(m -> m.equals(event.getBlock().getType()))) {
+        } else if (!whitelistMaterials.isEmpty()) {
+            if (!whitelistMaterials.contains(event.getBlock().getType())) {
                 event.setCancelled(true);
             }
         } else {
@@ -5,6 +5,7 @@ import com.google.gson.annotations.Expose;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
@@ -19,10 +20,14 @@ import com.voxelgameslib.voxelgameslib.components.map.BasicMarkerDefinition;
 import com.voxelgameslib.voxelgameslib.components.map.Map;
 import com.voxelgameslib.voxelgameslib.components.map.Marker;
 import com.voxelgameslib.voxelgameslib.components.map.MarkerDefinition;
+import com.voxelgameslib.voxelgameslib.components.team.Team;
 import com.voxelgameslib.voxelgameslib.components.user.User;
+import com.voxelgameslib.voxelgameslib.internal.math.KdTree;
 import com.voxelgameslib.voxelgameslib.internal.math.Vector3D;
 
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
 @FeatureInfo(name = "SpawnFeature", author = "MiniDigger", version = "1.0",
@@ -38,6 +43,10 @@ public class SpawnFeature extends AbstractFeature {
 
     private List<Vector3D> spawns = new ArrayList<>();
     private Map map;
+    private World world;
+
+    private Location[] spawnLocations;
+    private KdTree spawnTree;
 
     private MarkerDefinition spawnMarker = new BasicMarkerDefinition("spawn");
 
@@ -55,6 +64,9 @@ public class SpawnFeature extends AbstractFeature {
             return;
         }
 
+        world = getPhase().getFeature(MapFeature.class).getWorld();
+        buildSpawns();
+
         if (isInitialSpawn) {
             for (User user : getPhase().getGame().getPlayers()) {
                 user.getPlayer().teleportAsync(getSpawn(user.getPlayer().getUniqueId()));
@@ -64,19 +76,65 @@ public class SpawnFeature extends AbstractFeature {
 
     public void addSpawn(@Nonnull Vector3D spawn) {
         spawns.add(spawn);
+        spawnTree = null;
     }
 
     /**
-     * Generates a spawn location for that user
+     * Converts the spawns to locations and builds the tree used to pick spawns, so respawning doesn't need to do that
+     */
+    private void buildSpawns() {
+        String worldName = map.getLoadedName(getPhase().getGame().getUuid());
+        spawnLocations = new Location[spawns.size()];
+        // spawn in the middle of the block, the tree uses the same positions so the distances match what we return
+        List<Vector3D> centered = new ArrayList<>(spawns.size());
+        for (int i = 0; i < spawns.size(); i++) {
+            Vector3D spawn = spawns.get(i);
+            Vector3D center = new Vector3D(spawn.getX() + 0.5, spawn.getY(), spawn.getZ() + 0.5);
+            centered.add(center);
+            spawnLocations[i] = center.toLocation(worldName);
+        }
+        spawnTree = new KdTree(centered);
+    }
+
+    /**
+     * Generates a spawn location for that user. Picks the spawn that is the farthest away from all alive enemies, or
+     * a random one if there are no enemies.
      *
      * @param id the uuid user which wants to spawn
      * @return the location he should spawn
      */
     @Nonnull
     public Location getSpawn(@Nonnull UUID id) {
-        //TODO super fancy spawn algorithm
-        return spawns.get(ThreadLocalRandom.current().nextInt(spawns.size()))
-                .toLocation(map.getLoadedName(getPhase().getGame().getUuid())).add(0.5, 0, 0.5);
+        if (spawnTree == null) {
+            buildSpawns();
+        }
+
+        double[][] enemies = getEnemyPositions(id);
+        if (enemies.length == 0) {
+            return spawnLocations[ThreadLocalRandom.current().nextInt(spawnLocations.length)].clone();
+        }
+        return spawnLocations[spawnTree.findFarthest(enemies)].clone();
+    }
+
+    @Nonnull
+    private double[][] getEnemyPositions(@Nonnull UUID id) {
+        Optional<Team> team = getPhase().getGame().getTeam(id);
+        List<double[]> enemies = new ArrayList<>();
+        for (User user : getPhase().getGame().getPlayers()) {
+            if (user.getUuid().equals(id)) {
+                continue;
+            }
+            if (team.isPresent() && team.equals(getPhase().getGame().getTeam(user.getUuid()))) {
+                continue;
+            }
+            Player player = user.getPlayer();
+            if (player == null || player.isDead() || player.getWorld() != world) {
+                continue;
+            }
+            Location loc = player.getLocation();
+            enemies.add(new double[]{loc.getX(), loc.getY(), loc.getZ()});
+        }
+        return enemies.toArray(new double[0][]);
     }
 
     @SuppressWarnings("JavaDoc")
@@ -1,6 +1,5 @@
 package com.voxelgameslib.voxelgameslib.api.feature.features;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -17,10 +16,10 @@ import com.voxelgameslib.voxelgameslib.components.map.BasicMarkerDefinition;
 import com.voxelgameslib.voxelgameslib.components.map.Map;
 import com.voxelgameslib.voxelgameslib.components.map.Marker;
 import com.voxelgameslib.voxelgameslib.components.map.MarkerDefinition;
-import com.voxelgameslib.voxelgameslib.internal.math.Vector3D;
 
 import org.bukkit.GameMode;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 @FeatureInfo(name = "SpectatorFeature", author = "MiniDigger", version = "1.0", description = "Handles spectating")
 public class SpectatorFeature extends AbstractFeature {
@@ -28,8 +27,7 @@ public class SpectatorFeature extends AbstractFeature {
     private static final Logger log = Logger.getLogger(SpectatorFeature.class.getName());
 
     private MarkerDefinition spawnMarker = new BasicMarkerDefinition("spec");
-    private List<Vector3D> spawns = new ArrayList<>();
-    private Map map;
+    private Location[] spawns = new Location[0];
 
     @GameEvent(filterPlayers = false, filterSpectators = true)
     public void onJoin(GameJoinEvent event) {
@@ -37,9 +35,8 @@ public class SpectatorFeature extends AbstractFeature {
 
         // spawn
         Optional<SpawnFeature> spawnFeature = getPhase().getOptionalFeature(SpawnFeature.class);
-        if (spawns.size() > 0) {
-            Location location = spawns.get(ThreadLocalRandom.current().nextInt(spawns.size()))
-                    .toLocation(map.getLoadedName(getPhase().getGame().getUuid())).add(0.5, 0, 0.5);
+        if (spawns.length > 0) {
+            Location location = spawns[ThreadLocalRandom.current().nextInt(spawns.length)].clone();
             event.getUser().getPlayer().teleportAsync(location);
         } else if (spawnFeature.isPresent()) {
             event.getUser().getPlayer().teleportAsync(spawnFeature.get().getSpawn(event.getUser().getUuid()));
@@ -52,9 +49,14 @@ public class SpectatorFeature extends AbstractFeature {
 
     @Override
     public void enable() {
-        map = getPhase().getFeature(MapFeature.class).getMap();
-        for (Marker marker : map.getMarkers(spawnMarker)) {
-            spawns.add(marker.getLoc());
+        MapFeature mapFeature = getPhase().getFeature(MapFeature.class);
+        Map map = mapFeature.getMap();
+        World world = mapFeature.getWorld();
+
+        List<Marker> markers = map.getMarkers(spawnMarker);
+        spawns = new Location[markers.size()];
+        for (int i = 0; i < spawns.length; i++) {
+            spawns[i] = markers.get(i).getLoc().toLocation(world).add(0.5, 0, 0.5);
         }
     }
 
@@ -1,18 +1,41 @@
 package com.voxelgameslib.voxelgameslib.api.feature.features;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.api.event.GameEvent;
+import com.voxelgameslib.voxelgameslib.api.event.events.game.GamePreLeaveEvent;
+import com.voxelgameslib.voxelgameslib.api.event.events.player.PlayerEliminationEvent;
 import com.voxelgameslib.voxelgameslib.api.game.DefaultGameData;
+import com.voxelgameslib.voxelgameslib.components.team.Team;
+import com.voxelgameslib.voxelgameslib.components.user.User;
+
+import jskills.IPlayer;
+import jskills.Rating;
 
 @Singleton
 public class TeamFeature extends TeamSelectFeature {
 
     private static final Logger log = Logger.getLogger(TeamFeature.class.getName());
 
+    // groups of teams in order of elimination, first = first teams that were eliminated. teams in a group share a rank
+    private List<List<Team>> eliminated = new ArrayList<>();
+    // the players and ratings of the eliminated teams at the moment they were eliminated, by identity since the
+    // hashcode of a team changes with its players
+    private Map<Team, jskills.Team> snapshots = new IdentityHashMap<>();
+    // players that are out of the game but still in their team
+    private Set<UUID> eliminatedPlayers = new HashSet<>();
+
     @Override
     public void enable() {
         getPhase().setAllowJoin(false);
@@ -22,11 +45,146 @@ public class TeamFeature extends TeamSelectFeature {
         if (teams == null || teams.size() == 0) {
             log.severe("You need to run team select before running team feature!");
             getPhase().getGame().abortGame();
+            return;
+        }
+
+        eliminated = new ArrayList<>(teams.size());
+        snapshots = new IdentityHashMap<>();
+        eliminatedPlayers = new HashSet<>();
+    }
+
+    /**
+     * Marks a team as eliminated, teams that are eliminated later get a better placement
+     *
+     * @param team the team that is out
+     */
+    public void eliminate(@Nonnull Team team) {
+        eliminate(Collections.singletonList(team));
+    }
+
+    /**
+     * Marks teams as eliminated at the same time, they will share their placement. The players and ratings of the
+     * teams are remembered, so they are rated even if they leave the game afterwards.
+     *
+     * @param teams the teams that are out
+     */
+    public void eliminate(@Nonnull Collection<Team> teams) {
+        List<Team> group = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            if (!snapshots.containsKey(team)) {
+                snapshots.put(team, snapshot(team.getJskillTeam()));
+                group.add(team);
+            }
+        }
+        if (!group.isEmpty()) {
+            eliminated.add(group);
         }
     }
 
+    @Nonnull
+    private jskills.Team snapshot(@Nonnull jskills.Team team) {
+        jskills.Team copy = new jskills.Team();
+        for (Map.Entry<IPlayer, Rating> entry : team.entrySet()) {
+            copy.addPlayer(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * @param team the team to check
+     * @return if the team was eliminated already
+     */
+    public boolean isEliminated(@Nonnull Team team) {
+        return snapshots.containsKey(team);
+    }
+
+    @Override
+    @GameEvent
+    public void onQuit(@Nonnull GamePreLeaveEvent event) {
+        getTeam(event.getUser()).ifPresent(team -> {
+            // eliminate before the last player leaves, so the team is still rated
+            if (isLastAlive(team, event.getUser())) {
+                eliminate(team);
+            }
+            team.leave(event.getUser());
+            eliminatedPlayers.remove(event.getUser().getUuid());
+        });
+    }
+
+    @GameEvent
+    public void onElimination(@Nonnull PlayerEliminationEvent event) {
+        getTeam(event.getUser()).ifPresent(team -> {
+            if (isLastAlive(team, event.getUser())) {
+                eliminate(team);
+            }
+            eliminatedPlayers.add(event.getUser().getUuid());
+        });
+    }
+
+    /**
+     * @return if the user is the only player of the team that wasn't eliminated yet
+     */
+    private boolean isLastAlive(@Nonnull Team team, @Nonnull User user) {
+        if (!team.contains(user) || eliminatedPlayers.contains(user.getUuid())) {
+            return false;
+        }
+        for (User other : team.getPlayers()) {
+            if (!other.equals(user) && !eliminatedPlayers.contains(other.getUuid())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the jskill teams ordered by placement, first = winner. Teams that are still alive come first, followed
+     * by the eliminated teams as they were when they got eliminated, the team that was eliminated last first. Teams
+     * without players are left out.
+     *
+     * @return the jskill teams, ordered by placement
+     * @see #getJSkillTeamRanks()
+     */
     @Nonnull
     public List<jskills.Team> getJSkillTeamsOrdered() {
-        return new ArrayList<>(); //TODO
+        List<jskills.Team> ordered = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            if (!isEliminated(team) && !team.getJskillTeam().isEmpty()) {
+                ordered.add(team.getJskillTeam());
+            }
+        }
+        for (int i = eliminated.size() - 1; i >= 0; i--) {
+            for (Team team : eliminated.get(i)) {
+                jskills.Team jskillTeam = snapshots.get(team);
+                if (!jskillTeam.isEmpty()) {
+                    ordered.add(jskillTeam);
+                }
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns the ranks for the teams returned by {@link #getJSkillTeamsOrdered()}, 1 = winner. Teams that are still
+     * alive share the first rank, teams that were eliminated at the same time share a rank.
+     *
+     * @return the ranks, in the same order as the teams
+     */
+    @Nonnull
+    public int[] getJSkillTeamRanks() {
+        List<Integer> ranks = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            if (!isEliminated(team) && !team.getJskillTeam().isEmpty()) {
+                ranks.add(1);
+            }
+        }
+        for (int i = eliminated.size() - 1; i >= 0; i--) {
+            int rank = ranks.size() + 1;
+            for (Team team : eliminated.get(i)) {
+                if (!snapshots.get(team).isEmpty()) {
+                    ranks.add(rank);
+                }
+            }
+        }
+        return ranks.stream().mapToInt(Integer::intValue).toArray();
     }
 }
@@ -178,14 +178,24 @@ public class TeamSelectFeature extends AbstractFeature implements FeatureCommand
     }
 
     /**
-     * gets the team for a users
+     * gets the team for a users. the lookup of the game covers every team of the game, so only teams of this feature are
+     * returned, not ones from earlier phases
      *
      * @param user the user to check for
      * @return the team of the user, if present
      */
     @Nonnull
     public Optional<Team> getTeam(@Nonnull User user) {
-        return teams.stream().filter(team -> team.contains(user)).findFirst();
+        return getPhase().getGame().getTeam(user.getUuid()).filter(this::ownsTeam);
+    }
+
+    private boolean ownsTeam(@Nonnull Team team) {
+        for (Team t : teams) {
+            if (t == team) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -38,7 +38,7 @@ public class VoidTeleportFeature extends AbstractFeature {
         }
     }
 
-    @GameEvent
+    @GameEvent(onlyBlockChanges = true)
     public void onFellOutOfWorld(@Nonnull PlayerMoveEvent event) {
         // just in case damage is disabled
         if (event.getTo().getY() < 0) {
@@ -91,6 +91,7 @@ public abstract class AbstractGame implements Game {
     private ChatChannel chatChannel;
 
     private Map<UUID, PlayerState> playerStates = new HashMap<>();
+    private Map<UUID, Team> teamMembers = new HashMap<>();
 
     /**
      * Constructs a new {@link AbstractGame}
@@ -285,6 +286,8 @@ public abstract class AbstractGame implements Game {
         if (winnerTeam != null) {
             try {
                 TeamFeature teamFeature = getActivePhase().getFeature(TeamFeature.class);
+                // everybody who is still in the game lost against the winner
+                teamFeature.eliminate(teamFeature.getTeams().stream().filter(team -> team != winnerTeam).collect(Collectors.toList()));
                 eloHandler.handleGameEnd(this, teamFeature);
                 handled = true;
             } catch (NoSuchFeatureException ignored) {
@@ -440,6 +443,21 @@ public abstract class AbstractGame implements Game {
         return allUsers.stream().anyMatch(u -> u.getUuid().equals(user));
     }
 
+    @Override
+    @Nonnull
+    public Optional<Team> getTeam(@Nonnull UUID uuid) {
+        return Optional.ofNullable(teamMembers.get(uuid));
+    }
+
+    @Override
+    public void setTeam(@Nonnull UUID uuid, @Nullable Team team) {
+        if (team == null) {
+            teamMembers.remove(uuid);
+        } else {
+            teamMembers.put(uuid, team);
+        }
+    }
+
     @Override
     @Nonnull
     public <T extends Feature> T createFeature(@Nonnull Class<T> featureClass, @Nonnull Phase phase) {
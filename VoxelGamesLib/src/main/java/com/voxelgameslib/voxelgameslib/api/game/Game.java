@@ -133,6 +133,24 @@ public interface Game extends Tickable {
 
     boolean isParticipating(@Nonnull UUID user);
 
+    /**
+     * Gets the team a user is in
+     *
+     * @param uuid the uuid of the user
+     * @return the team of the user, if present
+     */
+    @Nonnull
+    Optional<Team> getTeam(@Nonnull UUID uuid);
+
+    /**
+     * Updates the team membership of a user, called by {@link Team#join(User, jskills.Rating)} and {@link
+     * Team#leave(User)}
+     *
+     * @param uuid the uuid of the user
+     * @param team the new team of the user, null if the user left his team
+     */
+    void setTeam(@Nonnull UUID uuid, @Nullable Team team);
+
     /**
      * Creates a new feature class (using guice and stuff)
      *
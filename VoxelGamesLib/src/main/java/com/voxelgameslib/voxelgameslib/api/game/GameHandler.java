@@ -21,6 +21,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.api.event.EventHandler;
 import com.voxelgameslib.voxelgameslib.api.event.events.game.GameStartEvent;
 import com.voxelgameslib.voxelgameslib.api.exception.GameModeNotAvailableException;
 import com.voxelgameslib.voxelgameslib.api.exception.GameStartException;
@@ -53,6 +54,8 @@ public class GameHandler implements Handler {
     private Gson gson;
     @Inject
     private ConfigHandler configHandler;
+    @Inject
+    private EventHandler eventHandler;
 
     private Game defaultGame;
 
@@ -251,6 +254,7 @@ public class GameHandler implements Handler {
      */
     public void removeGame(@Nonnull Game game) {
         games.remove(game);
+        eventHandler.checkForLeaks(games);
     }
 
     /**
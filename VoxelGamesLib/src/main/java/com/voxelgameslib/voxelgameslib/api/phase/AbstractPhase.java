@@ -6,19 +6,20 @@ import com.google.inject.Injector;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
 import com.voxelgameslib.voxelgameslib.api.condition.VictoryCondition;
 import com.voxelgameslib.voxelgameslib.api.condition.conditions.EmptyVictoryCondition;
 import com.voxelgameslib.voxelgameslib.api.event.EventHandler;
@@ -35,8 +36,11 @@ import com.voxelgameslib.voxelgameslib.command.CommandHandler;
 import com.voxelgameslib.voxelgameslib.components.ability.Ability;
 import com.voxelgameslib.voxelgameslib.components.team.Team;
 import com.voxelgameslib.voxelgameslib.components.user.User;
-import com.voxelgameslib.voxelgameslib.internal.graph.Graph;
 
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 
 import co.aikar.commands.BukkitCommandManager;
@@ -49,6 +53,13 @@ import co.aikar.commands.lib.timings.TimingManager;
 public abstract class AbstractPhase implements Phase {
 
     private static final Logger log = Logger.getLogger(AbstractPhase.class.getName());
+    /**
+     * How often the victory conditions are checked if none of their trigger events happened
+     */
+    private static final int VICTORY_CHECK_INTERVAL = 20;
+
+    @Inject
+    private VoxelGamesLib voxelGamesLib;
     @Inject
     private EventHandler eventHandler;
     @Inject
@@ -77,6 +88,11 @@ public abstract class AbstractPhase implements Phase {
     @Expose
     private List<VictoryCondition> victoryConditions = new ArrayList<>();
 
+    @Nullable
+    private transient Map<Class<?>, Feature> featureLookup;
+    // phases of a game definition are shared by all games started from it, so they only need to be sorted once
+    private transient boolean featuresSorted;
+
     private Game game;
 
     @Nullable
@@ -91,6 +107,11 @@ public abstract class AbstractPhase implements Phase {
 
     private Map<UUID, Tickable> phaseTickables = new HashMap<>();
 
+    private final transient Listener victoryTriggerListener = new Listener() {
+    };
+    private boolean victoryCheckPending;
+    private int ticksSinceVictoryCheck;
+
     public AbstractPhase() {
         className = getClass().getName().replace(PhaseTypeAdapter.DEFAULT_PATH + ".", "");
     }
@@ -123,6 +144,8 @@ public abstract class AbstractPhase implements Phase {
         }
         log.finer("add " + feature.getClass().getSimpleName() + " feature");
         features.add(feature);
+        featureLookup = null;
+        featuresSorted = false;
     }
 
     @Nonnull
@@ -135,15 +158,37 @@ public abstract class AbstractPhase implements Phase {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Feature> T getFeature(@Nonnull Class<T> clazz) {
-        return (T) features.stream().filter(f -> f.getClass().equals(clazz)).findFirst()
-                .orElseThrow(() -> new NoSuchFeatureException(clazz));
+        T feature = (T) getFeatureLookup().get(clazz);
+        if (feature == null) {
+            throw new NoSuchFeatureException(clazz);
+        }
+        return feature;
     }
 
     @Nonnull
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Feature> Optional<T> getOptionalFeature(@Nonnull Class<T> clazz) {
-        return (Optional<T>) features.stream().filter(f -> f.getClass().equals(clazz)).findFirst();
+        return Optional.ofNullable((T) getFeatureLookup().get(clazz));
+    }
+
+    /**
+     * Maps the classes of the features, and all their super classes and interfaces that are features, to the features.
+     * Exact matches take precedence over super types, for both the first feature that was added wins.
+     */
+    @Nonnull
+    private Map<Class<?>, Feature> getFeatureLookup() {
+        if (featureLookup == null) {
+            Map<Class<?>, Feature> lookup = new IdentityHashMap<>();
+            for (Feature feature : features) {
+                lookup.putIfAbsent(feature.getClass(), feature);
+            }
+            for (Feature feature : features) {
+                FeatureDependencyOrder.addSuperTypes(lookup, feature.getClass(), feature);
+            }
+            featureLookup = lookup;
+        }
+        return featureLookup;
     }
 
     @Nonnull
@@ -220,6 +265,10 @@ public abstract class AbstractPhase implements Phase {
                 game.abortGame();
                 return;
             }
+            // the feature aborted the game, which already disabled this phase, don't register anything anymore
+            if (game.isAborting()) {
+                return;
+            }
 
             if (feature instanceof Listener) {
                 eventHandler.registerEvents((Listener) feature, getGame());
@@ -235,11 +284,30 @@ public abstract class AbstractPhase implements Phase {
             startedFeatures.add(feature);
         }
 
+        if (game.isAborting()) {
+            return;
+        }
+
+        Set<Class<? extends Event>> triggerEvents = new HashSet<>();
         for (VictoryCondition victoryCondition : victoryConditions) {
             if (victoryCondition instanceof Listener) {
                 eventHandler.registerEvents((Listener) victoryCondition, getGame());
             }
+            triggerEvents.addAll(victoryCondition.getTriggerEvents());
         }
+
+        // monitor runs after the conditions handled the event, so the next tick sees the new state.
+        // the trigger is registered for the raw bukkit event, so ignore events of other games
+        for (Class<? extends Event> eventClass : triggerEvents) {
+            Bukkit.getPluginManager().registerEvent(eventClass, victoryTriggerListener, EventPriority.MONITOR,
+                    (listener, event) -> {
+                        if (!victoryCheckPending && eventClass.isInstance(event) && eventHandler.concernsGame(event, getGame())) {
+                            victoryCheckPending = true;
+                        }
+                    }, voxelGamesLib);
+        }
+        victoryCheckPending = true;
+        ticksSinceVictoryCheck = 0;
     }
 
     @Override
@@ -248,15 +316,18 @@ public abstract class AbstractPhase implements Phase {
         duration = Duration.between(startTime, LocalDateTime.now());
 
         log.finer("disable phase " + getName());
+        // first thing, the trigger listener is registered with bukkit directly, checkForLeaks would never find it
+        HandlerList.unregisterAll(victoryTriggerListener);
+
         // only disable features that have been started to avoid errors
         for (Feature feature : startedFeatures) {
             log.finer("disable " + feature.getName());
             try {
                 feature.disable();
             } catch (Exception ex) {
+                // keep going, the listeners, commands and tickables still need to be cleaned up
                 log.severe("error while stopping " + feature.getName());
                 ex.printStackTrace();
-                return;
             }
 
             if (feature instanceof Listener) {
@@ -271,7 +342,7 @@ public abstract class AbstractPhase implements Phase {
 
         for (VictoryCondition victoryCondition : victoryConditions) {
             if (victoryCondition instanceof Listener) {
-                eventHandler.registerEvents((Listener) victoryCondition, getGame());
+                eventHandler.unregister((Listener) victoryCondition, getGame());
             }
         }
 
@@ -311,7 +382,11 @@ public abstract class AbstractPhase implements Phase {
         }
         phaseTiming.stopTiming();
 
-        checkEnd();
+        if (victoryCheckPending || ++ticksSinceVictoryCheck >= VICTORY_CHECK_INTERVAL) {
+            victoryCheckPending = false;
+            ticksSinceVictoryCheck = 0;
+            checkEnd();
+        }
     }
 
     @Override
@@ -345,83 +420,30 @@ public abstract class AbstractPhase implements Phase {
     }
 
     private boolean checkDependencies() {
-        List<Class<? extends Feature>> orderedFeatures = new ArrayList<>();
-        List<Class<? extends Feature>> added = new ArrayList<>();
-        List<Class<? extends Feature>> missingSoftDependencies = new ArrayList<>();
-        try {
-            Graph<Class<? extends Feature>> graph = new Graph<>(orderedFeatures::add);
-
-            // add all dependencies to the graph
-            for (Feature feature : getFeatures()) {
-                for (Class<? extends Feature> dependency : feature.getDependencies()) {
-                    if (dependency.equals(feature.getClass())) {
-                        log.severe(feature.getName() + " tried to depend on itself...");
-                        continue;
-                    }
-                    graph.addDependency(feature.getClass(), dependency);
-
-                    added.add(feature.getClass());
-                    added.add(dependency);
-
-                    try {
-                        getFeature(dependency);
-                    } catch (NoSuchFeatureException ex) {
-                        log.severe("could not find dependency " + dependency.getName() + " for feature " +
-                                feature.getClass().getName() + " in phase " + getName());
-                        return false;
-                    }
-                }
-
-                for (Class<? extends Feature> dependency : feature.getSoftDependencies()) {
-                    if (dependency.equals(feature.getClass())) {
-                        log.severe(feature.getName() + " tried to depend on itself...");
-                        continue;
-                    }
-                    graph.addDependency(feature.getClass(), dependency);
-
-                    added.add(feature.getClass());
-                    added.add(dependency);
-
-                    try {
-                        getFeature(dependency);
-                    } catch (NoSuchFeatureException ex) {
-                        missingSoftDependencies.add(dependency);
-                    }
-                }
-            }
-
-            // add features that have no dependency connection to any other feature. they can't be left out alone!
-            for (Feature feature : getFeatures()) {
-                if (!added.contains(feature.getClass())) {
-                    orderedFeatures.add(feature.getClass());
-                }
-            }
-            added.clear();
+        if (featuresSorted) {
+            return true;
+        }
 
-            if (graph.size() != 0) {
-                // do the magic! (but only if there are actually nodes on the graph)
-                graph.generateDependencies();
-            }
+        List<Class<? extends Feature>> order;
+        try {
+            order = FeatureDependencyOrder.of(features);
         } catch (DependencyGraphException ex) {
-            log.severe("error while trying to generate dependency graph: " + ex.getMessage());
-            ex.printStackTrace();
+            log.severe("error while trying to generate dependency graph in phase " + getName() + ": " + ex.getMessage());
             return false;
         }
 
-
-        // no need to keep stuff that isn't present
-        orderedFeatures.removeAll(missingSoftDependencies);
-
-        if (features.size() != orderedFeatures.size()) {
-            throw new RuntimeException(
-                    "WTF HAPPENED HERE?!" + features.size() + " " + orderedFeatures.size());
-        }
-
-        // reverse order because dependencies need to be run before dependend features
-        Collections.reverse(orderedFeatures);
         // remap classes to features
-        features = orderedFeatures.stream().map((Function<Class, Feature>) this::getFeature)
-                .collect(Collectors.toList());
+        Map<Class<? extends Feature>, List<Feature>> byClass = new HashMap<>();
+        for (Feature feature : features) {
+            byClass.computeIfAbsent(feature.getClass(), (key) -> new ArrayList<>()).add(feature);
+        }
+        List<Feature> orderedFeatures = new ArrayList<>(features.size());
+        for (Class<? extends Feature> clazz : order) {
+            orderedFeatures.addAll(byClass.get(clazz));
+        }
+        features = orderedFeatures;
+        featureLookup = null;
+        featuresSorted = true;
 
         return true;
     }
@@ -0,0 +1,155 @@
+package com.voxelgameslib.voxelgameslib.api.phase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+import com.voxelgameslib.voxelgameslib.api.exception.DependencyGraphException;
+import com.voxelgameslib.voxelgameslib.api.feature.Feature;
+
+/**
+ * Calculates the order in which the features of a phase need to be enabled, so that dependencies are enabled before
+ * the features that depend on them. <br> Nothing is cached here, the phase keeps its features in the calculated order.
+ * Phases of a game definition are shared by all games started from it, so the order is calculated once per definition.
+ */
+final class FeatureDependencyOrder {
+
+    private static final Logger log = Logger.getLogger(FeatureDependencyOrder.class.getName());
+
+    private FeatureDependencyOrder() {
+
+    }
+
+    /**
+     * Gets the order in which the features should be enabled
+     *
+     * @param features the features of the phase
+     * @return the feature classes, dependencies first
+     * @throws DependencyGraphException if a dependency is missing or the dependencies contain a cycle
+     */
+    @Nonnull
+    static List<Class<? extends Feature>> of(@Nonnull List<Feature> features) {
+        return Collections.unmodifiableList(calculate(features));
+    }
+
+    /**
+     * Kahn's algorithm, features without dependencies keep the order they were added in
+     */
+    @Nonnull
+    private static List<Class<? extends Feature>> calculate(@Nonnull List<Feature> features) {
+        Set<Class<? extends Feature>> present = new LinkedHashSet<>();
+        for (Feature feature : features) {
+            present.add(feature.getClass());
+        }
+
+        // dependencies can name a super class or interface of a feature, resolve them like Phase#getFeature does
+        Map<Class<?>, Class<? extends Feature>> resolved = new IdentityHashMap<>();
+        for (Class<? extends Feature> clazz : present) {
+            resolved.putIfAbsent(clazz, clazz);
+        }
+        for (Class<? extends Feature> clazz : present) {
+            addSuperTypes(resolved, clazz, clazz);
+        }
+
+        Map<Class<? extends Feature>, Set<Class<? extends Feature>>> dependents = new HashMap<>();
+        Map<Class<? extends Feature>, Set<Class<? extends Feature>>> dependencies = new HashMap<>();
+        for (Class<? extends Feature> clazz : present) {
+            dependents.put(clazz, new HashSet<>());
+            dependencies.put(clazz, new HashSet<>());
+        }
+
+        for (Feature feature : features) {
+            Class<? extends Feature> clazz = feature.getClass();
+            for (Class<? extends Feature> dependency : feature.getDependencies()) {
+                Class<? extends Feature> target = resolved.get(dependency);
+                if (target == null) {
+                    throw new DependencyGraphException("could not find dependency " + dependency.getName() + " for feature " + clazz.getName());
+                }
+                if (target.equals(clazz)) {
+                    log.severe(feature.getName() + " tried to depend on itself...");
+                    continue;
+                }
+                dependencies.get(clazz).add(target);
+                dependents.get(target).add(clazz);
+            }
+
+            for (Class<? extends Feature> dependency : feature.getSoftDependencies()) {
+                Class<? extends Feature> target = resolved.get(dependency);
+                // soft dependencies only matter if they are present
+                if (target == null) {
+                    continue;
+                }
+                if (target.equals(clazz)) {
+                    log.severe(feature.getName() + " tried to depend on itself...");
+                    continue;
+                }
+                dependencies.get(clazz).add(target);
+                dependents.get(target).add(clazz);
+            }
+        }
+
+        Deque<Class<? extends Feature>> ready = new ArrayDeque<>();
+        for (Class<? extends Feature> clazz : present) {
+            if (dependencies.get(clazz).isEmpty()) {
+                ready.add(clazz);
+            }
+        }
+
+        List<Class<? extends Feature>> order = new ArrayList<>(present.size());
+        while (!ready.isEmpty()) {
+            Class<? extends Feature> clazz = ready.poll();
+            order.add(clazz);
+            for (Class<? extends Feature> dependent : dependents.get(clazz)) {
+                Set<Class<? extends Feature>> open = dependencies.get(dependent);
+                open.remove(clazz);
+                if (open.isEmpty()) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != present.size()) {
+            List<String> cycle = new ArrayList<>();
+            for (Class<? extends Feature> clazz : present) {
+                if (!dependencies.get(clazz).isEmpty()) {
+                    cycle.add(clazz.getSimpleName());
+                }
+            }
+            throw new DependencyGraphException("Found a dependency cycle between " + String.join(", ", cycle));
+        }
+
+        return order;
+    }
+
+    /**
+     * Maps all super classes and interfaces of the given class that are features to the value, unless they are mapped
+     * already
+     *
+     * @param lookup the map to add the super types to
+     * @param clazz  the class to start at
+     * @param value  the value to map the super types to
+     */
+    static <T> void addSuperTypes(@Nonnull Map<Class<?>, T> lookup, @Nonnull Class<?> clazz, @Nonnull T value) {
+        Class<?> superClass = clazz.getSuperclass();
+        if (superClass != null && Feature.class.isAssignableFrom(superClass)) {
+            lookup.putIfAbsent(superClass, value);
+            addSuperTypes(lookup, superClass, value);
+        }
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            if (Feature.class.isAssignableFrom(anInterface)) {
+                lookup.putIfAbsent(anInterface, value);
+                addSuperTypes(lookup, anInterface, value);
+            }
+        }
+    }
+}
@@ -17,11 +17,25 @@ public abstract class TimedPhase extends AbstractPhase {
     private static final Logger log = Logger.getLogger(TimedPhase.class.getName());
     @Expose
     private int ticks;
+    /**
+     * the minimal change in progress that causes the boss bar to be updated before the next full second
+     */
+    @Expose
+    private double bossBarEpsilon = 0.05;
+    /**
+     * if the remaining seconds should be shown in the boss bar title, costs one extra packet per player per second
+     */
+    @Expose
+    private boolean showCountdown = false;
 
     private double originalTicks;
     private BossBar bossBar;
     private boolean started;
 
+    private double lastProgress;
+    private int lastSeconds;
+    private int ticksSinceUpdate;
+
     /**
      * Sets the amount of ticks this phase should tick, can be modified after enable
      *
@@ -39,6 +53,25 @@ public abstract class TimedPhase extends AbstractPhase {
         return ticks;
     }
 
+    /**
+     * Sets the minimal change in progress that causes the boss bar to be updated before the next full second
+     *
+     * @param bossBarEpsilon the minimal change
+     */
+    public void setBossBarEpsilon(double bossBarEpsilon) {
+        this.bossBarEpsilon = bossBarEpsilon;
+    }
+
+    /**
+     * Sets if the remaining seconds should be shown in the boss bar title. Updating the title sends an extra packet to
+     * every player each second, so this is off by default.
+     *
+     * @param showCountdown if the countdown should be shown
+     */
+    public void setShowCountdown(boolean showCountdown) {
+        this.showCountdown = showCountdown;
+    }
+
     @Override
     public void enable() {
         super.enable();
@@ -46,7 +79,10 @@ public abstract class TimedPhase extends AbstractPhase {
         originalTicks = ticks;
 
         log.finer("enable timed phase with name " + getName());
-        bossBar = Bukkit.createBossBar(getName(), BarColor.BLUE, BarStyle.SEGMENTED_20);
+        lastProgress = 1;
+        lastSeconds = ticks / 20;
+        ticksSinceUpdate = 0;
+        bossBar = Bukkit.createBossBar(getTitle(lastSeconds), BarColor.BLUE, BarStyle.SEGMENTED_20);
 
         getGame().getPlayers().forEach(u -> bossBar.addPlayer(u.getPlayer()));
         getGame().getSpectators().forEach(u -> bossBar.addPlayer(u.getPlayer()));
@@ -71,7 +107,33 @@ public abstract class TimedPhase extends AbstractPhase {
         if (ticks <= 0) {
             getGame().endPhase();
         } else {
-            bossBar.setProgress((ticks / originalTicks));
+            updateBossBar();
         }
     }
+
+    /**
+     * Updates the boss bar, if needed. every update sends a packet to every player, so we only push the progress if
+     * it changed noticeably or once per second and the title only if the countdown is shown and the displayed seconds
+     * changed
+     */
+    private void updateBossBar() {
+        ticksSinceUpdate++;
+
+        double progress = ticks / originalTicks;
+        if (progress != lastProgress && (Math.abs(progress - lastProgress) > bossBarEpsilon || ticksSinceUpdate >= 20)) {
+            bossBar.setProgress(progress);
+            lastProgress = progress;
+            ticksSinceUpdate = 0;
+        }
+
+        int seconds = ticks / 20;
+        if (showCountdown && seconds != lastSeconds) {
+            bossBar.setTitle(getTitle(seconds));
+            lastSeconds = seconds;
+        }
+    }
+
+    private String getTitle(int seconds) {
+        return showCountdown ? getName() + " (" + seconds + "s)" : getName();
+    }
 }
@@ -4,6 +4,9 @@ import net.kyori.text.Component;
 import net.kyori.text.TextComponent;
 import net.kyori.text.format.TextColor;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -18,6 +21,15 @@ public enum Role {
     MODERATOR("moderator", PREMIUM, TextComponent.of("[MOD] ").color(TextColor.AQUA), null),
     ADMIN("admin", MODERATOR, TextComponent.of("[ADMIN] ").color(TextColor.RED), null);
 
+    // keyed by the lower case name
+    private static final Map<String, Role> nameLookup = new HashMap<>();
+
+    static {
+        for (Role role : values()) {
+            nameLookup.put(role.getName().toLowerCase(), role);
+        }
+    }
+
     @Nonnull
     private final String name;
     @Nullable
@@ -57,10 +69,10 @@ public enum Role {
      * @return if the role has that permission
      */
     public boolean hasPermission(@Nonnull Permission perm) {
-        String roleName = perm.getRole().getName();
+        Role role = perm.getRole();
         Role currRole = this;
         while (currRole != null) {
-            if (currRole.getName().equalsIgnoreCase(roleName)) {
+            if (currRole == role) {
                 return true;
             }
 
@@ -78,12 +90,18 @@ public enum Role {
      */
     @Nonnull
     public static Role fromName(@Nonnull String name) {
-        for (Role role : values()) {
-            if (role.getName().equalsIgnoreCase(name)) {
-                return role;
-            }
-        }
-        throw new IllegalArgumentException();
+        return byName(name).orElseThrow(IllegalArgumentException::new);
+    }
+
+    /**
+     * Searches for the role with the given name
+     *
+     * @param name the name to search for
+     * @return the role that was found, if any
+     */
+    @Nonnull
+    public static Optional<Role> byName(@Nonnull String name) {
+        return Optional.ofNullable(nameLookup.get(name.toLowerCase()));
     }
 
     @Nullable
@@ -3,8 +3,8 @@ package com.voxelgameslib.voxelgameslib.api.role;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -23,7 +23,8 @@ public class RoleHandler implements Handler {
     @Inject
     private Injector injector;
 
-    private final List<Permission> knownPermissions = new ArrayList<>();
+    // keyed by the lower case permission string
+    private final Map<String, Permission> knownPermissions = new HashMap<>();
 
     @Override
     public void enable() {
@@ -51,13 +52,14 @@ public class RoleHandler implements Handler {
 
         Optional<Permission> opt = getPermission(perm);
         if (opt.isPresent()) {
-            if (!opt.get().getRole().getName().equalsIgnoreCase(role)) {
+            if (opt.get().getRole() != r.get()) {
                 throw new DuplicatePermissionDefinitionException(opt.get(), role);
             }
+            return opt.get();
         }
 
         Permission p = new Permission(perm, r.get());
-        knownPermissions.add(p);
+        knownPermissions.put(perm.toLowerCase(), p);
         return p;
     }
 
@@ -69,7 +71,7 @@ public class RoleHandler implements Handler {
      */
     @Nonnull
     public Optional<Permission> getPermission(@Nonnull String perm) {
-        return knownPermissions.stream().filter(p -> p.getString().equalsIgnoreCase(perm)).findAny();
+        return Optional.ofNullable(knownPermissions.get(perm.toLowerCase()));
     }
 
     /**
@@ -80,10 +82,6 @@ public class RoleHandler implements Handler {
      */
     @Nonnull
     public Optional<Role> getRole(@Nonnull String role) {
-        try {
-            return Optional.of(Role.fromName(role));
-        } catch (IllegalArgumentException ex) {
-            return Optional.empty();
-        }
+        return Role.byName(role);
     }
 }
@@ -7,6 +7,7 @@ import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
@@ -16,7 +17,7 @@ import com.voxelgameslib.voxelgameslib.components.user.User;
 import com.voxelgameslib.voxelgameslib.internal.persistence.converter.TrackableConverter;
 
 @Entity
-@Table(name = "stat")
+@Table(name = "stat", indexes = @Index(name = "idx_stat_type_val", columnList = "statType, val DESC"))
 public class StatInstance {
 
     @Transient
@@ -48,7 +49,14 @@ public class StatInstance {
     }
 
     public void increment(double val) {
-        PlayerIncrementStatEvent event = new PlayerIncrementStatEvent(getUser(), statType, this.val, this.val + val, val);
+        double newVal = this.val + val;
+        if (!crossesThreshold(this.val, newVal)) {
+            this.val = newVal;
+            dirty = true;
+            return;
+        }
+
+        PlayerIncrementStatEvent event = new PlayerIncrementStatEvent(getUser(), statType, this.val, newVal, val);
         if (event.callEvent()) {
             this.val = event.getNewVal();
             dirty = true;
@@ -60,13 +68,42 @@ public class StatInstance {
     }
 
     public void decrement(double val) {
-        PlayerDecrementStatEvent event = new PlayerDecrementStatEvent(getUser(), statType, this.val, this.val - val, val);
+        double newVal = this.val - val;
+        if (!crossesThreshold(this.val, newVal)) {
+            this.val = newVal;
+            dirty = true;
+            return;
+        }
+
+        PlayerDecrementStatEvent event = new PlayerDecrementStatEvent(getUser(), statType, this.val, newVal, val);
         if (event.callEvent()) {
             this.val = event.getNewVal();
             dirty = true;
         }
     }
 
+    /**
+     * Checks if a change from oldVal to newVal needs to be announced via an event.<br>
+     * Stats that aren't observable never fire events, observable stats only fire when the value moves into another
+     * bucket of {@link Trackable#getObserveThreshold()}.
+     *
+     * @param oldVal the value before the change
+     * @param newVal the value after the change
+     * @return if an event should be fired
+     */
+    private boolean crossesThreshold(double oldVal, double newVal) {
+        if (!statType.isObservable()) {
+            return false;
+        }
+
+        double threshold = statType.getObserveThreshold();
+        if (threshold <= 0) {
+            return true;
+        }
+
+        return Math.floor(oldVal / threshold) != Math.floor(newVal / threshold);
+    }
+
     public double getVal() {
         return val;
     }
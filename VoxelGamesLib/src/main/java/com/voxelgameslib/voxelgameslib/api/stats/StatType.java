@@ -10,24 +10,32 @@ import com.voxelgameslib.voxelgameslib.internal.lang.Translatable;
 
 public enum StatType implements Trackable {
 
-    JOIN_COUNT(LangKey.STAT_JOIN_COUNT_NAME, LangKey.STAT_JOIN_COUNT_TEXT, false, StatFormatter.INT),
-    PLAY_TIME(LangKey.STAT_PLAY_TIME_NAME, LangKey.STAT_PLAY_TIME_TEXT, false, StatFormatter.DURATION_LONG);
+    JOIN_COUNT(LangKey.STAT_JOIN_COUNT_NAME, LangKey.STAT_JOIN_COUNT_TEXT, false, StatFormatter.INT, true, 1),
+    PLAY_TIME(LangKey.STAT_PLAY_TIME_NAME, LangKey.STAT_PLAY_TIME_TEXT, false, StatFormatter.DURATION_LONG, false, 0);
 
     private Stat stat;
     private Translatable displayName;
     private Translatable text;
     private StatFormatter statFormatter;
     private boolean announce;
+    private boolean observable;
+    private double observeThreshold;
 
     StatType(Translatable displayName, Translatable text, boolean announce) {
         this(displayName, text, announce, StatFormatter.DOUBLE);
     }
 
     StatType(Translatable displayName, Translatable text, boolean announce, StatFormatter statFormatter) {
+        this(displayName, text, announce, statFormatter, true, 0);
+    }
+
+    StatType(Translatable displayName, Translatable text, boolean announce, StatFormatter statFormatter, boolean observable, double observeThreshold) {
         this.displayName = displayName;
         this.text = text;
         this.announce = announce;
         this.statFormatter = statFormatter;
+        this.observable = observable;
+        this.observeThreshold = observeThreshold;
     }
 
     @Override
@@ -101,6 +109,17 @@ public enum StatType implements Trackable {
         this.announce = announce;
     }
 
+    @Override
+    public boolean isObservable() {
+        // announcing relies on the events, so announced stats are always observable
+        return observable || announce;
+    }
+
+    @Override
+    public double getObserveThreshold() {
+        return observeThreshold;
+    }
+
     @Override
     public String getPrefix() {
         return "VGL";
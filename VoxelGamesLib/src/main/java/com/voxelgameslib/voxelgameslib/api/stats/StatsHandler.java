@@ -27,6 +27,7 @@ import com.voxelgameslib.voxelgameslib.components.user.UserHandler;
 import com.voxelgameslib.voxelgameslib.internal.error.ErrorHandler;
 import com.voxelgameslib.voxelgameslib.internal.handler.Handler;
 import com.voxelgameslib.voxelgameslib.internal.persistence.PersistenceHandler;
+import com.voxelgameslib.voxelgameslib.internal.startup.StartupHandler;
 import com.voxelgameslib.voxelgameslib.internal.timings.Timing;
 import com.voxelgameslib.voxelgameslib.util.Pair;
 
@@ -39,6 +40,10 @@ import io.github.classgraph.ScanResult;
 public class StatsHandler implements Handler {
 
     private static final Logger log = Logger.getLogger(StatsHandler.class.getName());
+    /**
+     * amount of entries the top lists are warmed with, matches the default of signs, skulls and the top command
+     */
+    private static final int WARMUP_AMOUNT = 5;
 
     @Inject
     private VoxelGamesLib vgl;
@@ -53,6 +58,8 @@ public class StatsHandler implements Handler {
     private ScanResult scanner;
     @Inject
     private ErrorHandler errorHandler;
+    @Inject
+    private StartupHandler startupHandler;
 
     private List<Stat> statTypes = new ArrayList<>();
     private static List<Trackable> trackables = new ArrayList<>();
@@ -76,6 +83,9 @@ public class StatsHandler implements Handler {
                 persistenceHandler.getProvider().saveUser(user.getUserData());
             }
         }), 60 * 20, 60 * 20);
+
+        // the top lists come from the database, which is only usable once hibernate finished starting up
+        startupHandler.whenReady(() -> Bukkit.getScheduler().runTaskAsynchronously(vgl, this::warmTopLists));
     }
 
     @Override
@@ -83,6 +93,19 @@ public class StatsHandler implements Handler {
 
     }
 
+    /**
+     * Loads the top lists of all registered stat types into the caches, so that the first sign, skull or command
+     * doesn't need to wait for the database
+     */
+    private void warmTopLists() {
+        try (final Timing timing = new Timing("WarmStatTopLists")) {
+            for (Trackable type : getStatTypes()) {
+                uuidCache.refresh(new Pair<>(type, WARMUP_AMOUNT));
+                nameCache.refresh(new Pair<>(type, WARMUP_AMOUNT));
+            }
+        }
+    }
+
     private void registerStatType(Class<? extends Stat> clazz) {
         Stat stat = injector.getInstance(clazz);
         stat.getType().setStat(stat);
@@ -113,13 +136,17 @@ public class StatsHandler implements Handler {
 
     private LoadingCache<Pair<Trackable, Integer>, List<Pair<UUID, Double>>> uuidCache = CacheBuilder.newBuilder()
             .maximumSize(1000)
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .build(new CacheLoader<Pair<Trackable, Integer>, List<Pair<UUID, Double>>>() {
+            .refreshAfterWrite(1, TimeUnit.HOURS)
+            .build(CacheLoader.asyncReloading(new CacheLoader<Pair<Trackable, Integer>, List<Pair<UUID, Double>>>() {
                 @Override
                 public List<Pair<UUID, Double>> load(Pair<Trackable, Integer> key) throws Exception {
                     return persistenceHandler.getProvider().getTopWithUUID(key.getFirst(), key.getSecond());
                 }
-            });
+            }, this::runAsync));
+
+    private void runAsync(Runnable runnable) {
+        Bukkit.getScheduler().runTaskAsynchronously(vgl, runnable);
+    }
 
     public List<Pair<UUID, Double>> getTopWithUUID(Trackable type, int amount) {
         try {
@@ -133,13 +160,13 @@ public class StatsHandler implements Handler {
 
     private LoadingCache<Pair<Trackable, Integer>, List<Pair<Component, Double>>> nameCache = CacheBuilder.newBuilder()
             .maximumSize(1000)
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .build(new CacheLoader<Pair<Trackable, Integer>, List<Pair<Component, Double>>>() {
+            .refreshAfterWrite(1, TimeUnit.HOURS)
+            .build(CacheLoader.asyncReloading(new CacheLoader<Pair<Trackable, Integer>, List<Pair<Component, Double>>>() {
                 @Override
                 public List<Pair<Component, Double>> load(Pair<Trackable, Integer> key) throws Exception {
                     return persistenceHandler.getProvider().getTopWithName(key.getFirst(), key.getSecond());
                 }
-            });
+            }, this::runAsync));
 
     public List<Pair<Component, Double>> getTopWithName(Trackable type, int amount) {
         try {
@@ -39,5 +39,15 @@ public interface Trackable {
 
     void setAnnounce(boolean announce);
 
+    /**
+     * @return if changes to this stat should fire events. non observable stats are just counted
+     */
+    boolean isObservable();
+
+    /**
+     * @return the step size in which observable stats fire events, 0 or less means every change fires an event
+     */
+    double getObserveThreshold();
+
     String getPrefix();
 }
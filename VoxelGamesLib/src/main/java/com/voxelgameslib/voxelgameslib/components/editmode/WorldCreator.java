@@ -237,21 +237,22 @@ public class WorldCreator extends BaseCommand {
             return;
         }
 
-        worldHandler.finishWorldEditing(editor, map);
-
-        game.abortGame();
-        if (gameHandler.getDefaultGame() != null) {
-            gameHandler.getDefaultGame().join(editor);
-        }
-        game = null;
-
-        editor = null;
-        step = 0;
-        worldName = null;
-        center = null;
-        radius = -1;
-        displayName = null;
-        author = null;
-        gameModes = new ArrayList<>();
+        // keep the edit game and the world around until the map is saved, on failure the editor can try again
+        worldHandler.finishWorldEditing(editor, map).thenRun(() -> {
+            game.abortGame();
+            if (gameHandler.getDefaultGame() != null) {
+                gameHandler.getDefaultGame().join(editor);
+            }
+            game = null;
+
+            editor = null;
+            step = 0;
+            worldName = null;
+            center = null;
+            radius = -1;
+            displayName = null;
+            author = null;
+            gameModes = new ArrayList<>();
+        });
     }
 }
@@ -179,16 +179,17 @@ public class WorldModifyCommands extends BaseCommand {
     @CommandPermission("%admin")
     public void stop(@Nonnull User user) {
         if (!check(user)) return;
-        worldHandler.finishWorldEditing(editor, map);
-
-        game.abortGame();
-        if (gameHandler.getDefaultGame() != null) {
-            gameHandler.getDefaultGame().join(editor);
-        }
-        game = null;
-
-        editor = null;
-        map = null;
+        // keep the edit game and the world around until the map is saved, on failure the editor can try again
+        worldHandler.finishWorldEditing(editor, map).thenRun(() -> {
+            game.abortGame();
+            if (gameHandler.getDefaultGame() != null) {
+                gameHandler.getDefaultGame().join(editor);
+            }
+            game = null;
+
+            editor = null;
+            map = null;
+        });
     }
 
     private boolean check(@Nonnull User user) {
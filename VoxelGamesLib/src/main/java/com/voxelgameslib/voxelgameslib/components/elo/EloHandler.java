@@ -7,12 +7,19 @@ import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.inject.Inject;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
 import com.voxelgameslib.voxelgameslib.api.feature.features.DuelFeature;
 import com.voxelgameslib.voxelgameslib.api.feature.features.TeamFeature;
 import com.voxelgameslib.voxelgameslib.api.game.Game;
+import com.voxelgameslib.voxelgameslib.api.game.GameMode;
 import com.voxelgameslib.voxelgameslib.components.user.User;
 import com.voxelgameslib.voxelgameslib.internal.handler.Handler;
+import com.voxelgameslib.voxelgameslib.internal.persistence.PersistenceHandler;
+import com.voxelgameslib.voxelgameslib.internal.persistence.model.UserData;
+
+import org.bukkit.Bukkit;
 
 import jskills.IPlayer;
 import jskills.ITeam;
@@ -21,13 +28,20 @@ import jskills.SkillCalculator;
 import jskills.trueskill.FactorGraphTrueSkillCalculator;
 
 /**
- * Handles the calculation of "skill" for players
+ * Handles the calculation of "skill" for players.<br>
+ * The calculation itself is done async on a snapshot of the teams, the new ratings are applied back on the main
+ * thread.
  */
 public class EloHandler implements Handler {
 
     private static final Logger log = Logger.getLogger(EloHandler.class.getName());
     private SkillCalculator calculator = new FactorGraphTrueSkillCalculator();
 
+    @Inject
+    private VoxelGamesLib voxelGamesLib;
+    @Inject
+    private PersistenceHandler persistenceHandler;
+
     @Override
     public void enable() {
 
@@ -45,12 +59,12 @@ public class EloHandler implements Handler {
      * @param teamFeature the team feature that managed the teams for this game
      */
     public void handleGameEnd(@Nonnull Game game, @Nonnull TeamFeature teamFeature) {
-        List<ITeam> teams = new ArrayList<>();
-        teams.addAll(teamFeature.getJSkillTeamsOrdered());
-        Map<IPlayer, Rating> newRatings = calculator
-                .calculateNewRatings(game.getGameMode(), teams,
-                        IntStream.of(teamFeature.getJSkillTeamsOrdered().size()).toArray());
-        update(game, newRatings);
+        // eliminated teams are already snapshots, taken by the team feature
+        List<ITeam> teams = new ArrayList<>(teamFeature.getJSkillTeamsOrdered());
+        if (teams.size() < 2) {
+            return;
+        }
+        calculate(game.getGameMode(), teams, teamFeature.getJSkillTeamRanks());
     }
 
     /**
@@ -69,9 +83,7 @@ public class EloHandler implements Handler {
         if (!winner.equals(duelFeature.getOne())) {
             Collections.reverse(teams);
         }
-        Map<IPlayer, Rating> newRatings = calculator
-                .calculateNewRatings(game.getGameMode(), teams, 1, 2);
-        update(game, newRatings);
+        calculate(game.getGameMode(), teams);
     }
 
     /**
@@ -85,25 +97,51 @@ public class EloHandler implements Handler {
         for (User user : users) {
             teams.add(new jskills.Team(user, user.getRating(game.getGameMode())));
         }
-        Map<IPlayer, Rating> newRatings = calculator
-                .calculateNewRatings(game.getGameMode(), teams,
-                        IntStream.of(users.length).toArray());
-        update(game, newRatings);
+        calculate(game.getGameMode(), teams);
     }
 
-    private void update(@Nonnull Game game, @Nonnull Map<IPlayer, Rating> newRatings) {
-        for (IPlayer iPlayer : newRatings.keySet()) {
-            if (!(iPlayer instanceof User)) {
+    /**
+     * Runs the calculation for the given teams async and applies the result on the main thread
+     *
+     * @param mode  the mode the game was played in
+     * @param teams the teams, in order, first = winner
+     */
+    private void calculate(@Nonnull GameMode mode, @Nonnull List<ITeam> teams) {
+        calculate(mode, teams, IntStream.rangeClosed(1, teams.size()).toArray());
+    }
+
+    /**
+     * Runs the calculation for the given teams async and applies the result on the main thread
+     *
+     * @param mode  the mode the game was played in
+     * @param teams the teams, in order, first = winner
+     * @param ranks the rank of each team, 1 = winner, teams with the same rank tied
+     */
+    private void calculate(@Nonnull GameMode mode, @Nonnull List<ITeam> teams, @Nonnull int[] ranks) {
+        List<ITeam> snapshot = Collections.unmodifiableList(teams);
+        Bukkit.getScheduler().runTaskAsynchronously(voxelGamesLib, () -> {
+            Map<IPlayer, Rating> newRatings = calculator.calculateNewRatings(mode, snapshot, ranks);
+            Bukkit.getScheduler().runTask(voxelGamesLib, () -> update(mode, newRatings));
+        });
+    }
+
+    private void update(@Nonnull GameMode mode, @Nonnull Map<IPlayer, Rating> newRatings) {
+        List<UserData> changed = new ArrayList<>();
+        for (Map.Entry<IPlayer, Rating> entry : newRatings.entrySet()) {
+            if (!(entry.getKey() instanceof User)) {
                 log.warning("WTF");
                 continue;
             }
 
-            User user = (User) iPlayer;
-            user.saveRating(game.getGameMode(), newRatings.get(iPlayer));
+            User user = (User) entry.getKey();
+            user.setRating(mode, entry.getValue());
+            changed.add(user.getUserData());
             //TODO fixme
             log.info("New Rating for " + user.getRawDisplayName() + " is "
-                    + newRatings.get(iPlayer).getMean() + "(" + newRatings.get(iPlayer).getStandardDeviation()
+                    + entry.getValue().getMean() + "(" + entry.getValue().getStandardDeviation()
                     + ")");
         }
+
+        Bukkit.getScheduler().runTaskAsynchronously(voxelGamesLib, () -> persistenceHandler.getProvider().saveUsers(changed));
     }
 }
@@ -14,6 +14,7 @@ public class Kit {
     private String name;
     private Map<Integer, ItemStack> items;
     private Map<Integer, Ability> abilities;
+    private transient boolean frozen;
 
     protected Kit() {
         // jpa
@@ -51,14 +52,51 @@ public class Kit {
         this.abilities = abilities;
     }
 
+    /**
+     * Adds an item to this kit
+     *
+     * @param slot the slot of the item
+     * @param is   the item
+     * @throws IllegalStateException if this kit is frozen
+     */
     public void addItem(int slot, @Nonnull ItemStack is) {
+        checkNotFrozen();
         items.put(slot, is);
     }
 
+    /**
+     * Adds an ability to this kit
+     *
+     * @param slot the slot of the ability
+     * @param is   the ability
+     * @throws IllegalStateException if this kit is frozen
+     */
     public void addAbility(int slot, @Nonnull Ability is) {
+        checkNotFrozen();
         abilities.put(slot, is);
     }
 
+    /**
+     * Marks this kit as frozen, which makes all mutators throw. The kits cached by the {@link KitHandler} are frozen,
+     * since they are shared between all games.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * @return if this kit is a frozen template that can't be modified
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Kit " + name + " is a cached template and can't be modified, create a new kit instead");
+        }
+    }
+
     public String getName() {
         return this.name;
     }
@@ -72,14 +110,17 @@ public class Kit {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
     public void setItems(Map<Integer, ItemStack> items) {
+        checkNotFrozen();
         this.items = items;
     }
 
     public void setAbilities(Map<Integer, Ability> abilities) {
+        checkNotFrozen();
         this.abilities = abilities;
     }
 
@@ -8,11 +8,14 @@ import com.dumptruckman.bukkit.configuration.json.JsonConfiguration;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -20,9 +23,12 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
+import com.voxelgameslib.voxelgameslib.components.ability.Ability;
 import com.voxelgameslib.voxelgameslib.internal.handler.Handler;
 import com.voxelgameslib.voxelgameslib.util.utils.ItemBuilder;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Color;
 import org.bukkit.Material;
@@ -34,14 +40,16 @@ public class KitHandler implements Handler {
 
     private static final Logger log = Logger.getLogger(KitHandler.class.getName());
     @Inject
+    private VoxelGamesLib voxelGamesLib;
+    @Inject
     @Named("KitsFolder")
     private File kitsDir;
     @Inject
     @Named("IgnoreExposedBS")
     private Gson gson;
 
-    private Map<String, Kit> kits = new HashMap<>();
-    private Set<String> availableKits = new HashSet<>();
+    private Map<String, Kit> kits = new ConcurrentHashMap<>();
+    private Set<String> availableKits = ConcurrentHashMap.newKeySet();
 
     @Override
     public void enable() {
@@ -66,10 +74,45 @@ public class KitHandler implements Handler {
         kit.addItem(1, new ItemBuilder(Material.DIAMOND_SWORD).enchantment(Enchantment.DAMAGE_ALL, 5).name(ChatColor.RED + "Cool sword").amount(2).build());
         kit.addItem(2, new ItemBuilder(Material.LEATHER_BOOTS).enchantment(Enchantment.PROTECTION_EXPLOSIONS, 2).enchantment(Enchantment.PROTECTION_FALL, 5).name("Cool bots").amount(3).color(Color.RED).durability(10).lore("test").lore("Lore").build());
         createKit(kit);
-        kit = loadKit("DefaultKit", new File(kitsDir, kit.getName() + ".json"));
-        System.out.println(kit);
+
+        Bukkit.getScheduler().runTaskAsynchronously(voxelGamesLib, this::preloadKits);
+    }
+
+    /**
+     * Reads all available kits that are not cached yet, so that kit features never have to hit the disk. Only the
+     * files are read async, the items are deserialized on the main thread since the bukkit item factory isn't thread
+     * safe.
+     */
+    private void preloadKits() {
+        Map<String, String> contents = new HashMap<>();
+        for (String name : availableKits) {
+            if (!kits.containsKey(name)) {
+                try {
+                    contents.put(name, readKit(new File(kitsDir, name + ".json")));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        Bukkit.getScheduler().runTask(voxelGamesLib, () -> {
+            int loaded = 0;
+            for (Map.Entry<String, String> entry : contents.entrySet()) {
+                if (!kits.containsKey(entry.getKey()) && parseKit(entry.getKey(), entry.getValue()) != null) {
+                    loaded++;
+                }
+            }
+            log.info("Preloaded " + loaded + " kits.");
+        });
     }
 
+    /**
+     * Gets the cached template for a kit, loading it if it wasn't preloaded yet.<br>
+     * The returned kit is frozen, its items need to be cloned before they are given to a player.
+     *
+     * @param name the name of the kit
+     * @return the kit template, if the kit exists
+     */
     @Nonnull
     public Optional<Kit> loadKit(@Nonnull String name) {
         if (!availableKits.contains(name)) {
@@ -77,34 +120,68 @@ public class KitHandler implements Handler {
             return Optional.empty();
         }
 
-        if (kits.containsKey(name)) {
-            return Optional.of(kits.get(name));
+        Kit kit = kits.get(name);
+        if (kit != null) {
+            return Optional.of(kit);
         } else {
+            log.fine("Kit " + name + " wasn't preloaded, loading it now");
             return Optional.ofNullable(loadKit(name, new File(kitsDir, name + ".json")));
         }
     }
 
     public void createKit(@Nonnull Kit kit) {
         availableKits.add(kit.getName());
-        kits.put(kit.getName(), kit);
+        kits.put(kit.getName(), freeze(kit.getName(), kit.getItems(), kit.getAbilities()));
         saveKit(kit, new File(kitsDir, kit.getName() + ".json"));
     }
 
+    /**
+     * Creates an immutable template of a kit, so that cached kits can't be modified by accident
+     */
+    @Nonnull
+    private Kit freeze(@Nonnull String name, @Nonnull Map<Integer, ItemStack> items, @Nullable Map<Integer, Ability> abilities) {
+        Map<Integer, ItemStack> copy = new HashMap<>();
+        items.forEach((slot, item) -> copy.put(slot, item.clone()));
+        Kit kit = new Kit(name, Collections.unmodifiableMap(copy),
+                abilities == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(abilities)));
+        kit.freeze();
+        return kit;
+    }
+
+    @Nonnull
+    private String readKit(@Nonnull File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Loads a kit from its file, needs to run on the main thread
+     */
     @Nullable
     private Kit loadKit(@Nonnull String name, @Nonnull File file) {
         try {
-            JsonConfiguration jsonConfiguration = JsonConfiguration.loadConfiguration(file);
-            Kit kit = new Kit();
-            kit.setName(jsonConfiguration.getString("name", "INVALID"));
+            return parseKit(name, readKit(file));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
+    /**
+     * Deserializes a kit and caches it, needs to run on the main thread
+     */
+    @Nullable
+    private Kit parseKit(@Nonnull String name, @Nonnull String content) {
+        try {
+            JsonConfiguration jsonConfiguration = new JsonConfiguration();
+            jsonConfiguration.loadFromString(content);
             Map<String, Object> map = jsonConfiguration.getConfigurationSection("items").getValues(false);
             Map<Integer, ItemStack> items = new HashMap<>();
             for (Map.Entry<String, Object> entry : map.entrySet()) {
                 items.put(Integer.parseInt(entry.getKey()), (ItemStack) entry.getValue());
             }
-            kit.setItems(items);
 
             // TODO load abilities
+            Kit kit = freeze(jsonConfiguration.getString("name", "INVALID"), items, null);
             kits.put(name, kit);
             return kit;
         } catch (Exception e) {
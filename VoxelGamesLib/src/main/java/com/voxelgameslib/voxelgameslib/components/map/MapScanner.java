@@ -3,12 +3,15 @@ package com.voxelgameslib.voxelgameslib.components.map;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
 import com.voxelgameslib.voxelgameslib.api.exception.MapException;
 import com.voxelgameslib.voxelgameslib.components.placeholders.SkullPlaceHolders;
 import com.voxelgameslib.voxelgameslib.internal.math.Vector3D;
@@ -16,6 +19,7 @@ import com.voxelgameslib.voxelgameslib.util.utils.DirectionUtil;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.BlockState;
@@ -31,60 +35,71 @@ public class MapScanner {
 
     private static final Logger log = Logger.getLogger(MapScanner.class.getName());
     @Inject
+    private VoxelGamesLib voxelGamesLib;
+    @Inject
     private MapHandler mapHandler;
     @Inject
     private SkullPlaceHolders skullPlaceHolders;
 
     /**
-     * Scans a map for markers
+     * Scans a map for markers. The chunks are loaded and searched for marker blocks asynchronously, only reading the
+     * found tile entities happens on the main thread.
      *
-     * @param map    the map to scan
-     * @param gameid the id of the game that the map belongs to
+     * @param map      the map to scan
+     * @param gameid   the id of the game that the map belongs to
+     * @param progress notified with the scan progress in percent, always on the main thread
+     * @return a future that is completed on the main thread once all markers have been collected
+     * @throws MapException if the world of the map isn't loaded
      */
-    public void scan(@Nonnull Map map, @Nonnull UUID gameid) {
-        searchForMarkers(map, map.getCenter(), map.getRadius(), gameid);
-
-        List<Marker> errored = new ArrayList<>();
-
-        map.getMarkers().stream().filter(marker -> marker.getData().startsWith("chest:"))
-                .forEach(marker -> {
-                    String name = marker.getData().replace("chest:", "");
-                    if (!map.getChestMarker(name).isPresent()) {
-                        log.warning(
-                                "Could not find a chest " + name + " for marker at " + marker.getLoc().toString());
-                        errored.add(marker);
-                    }
-                });
+    @Nonnull
+    public CompletableFuture<Void> scan(@Nonnull Map map, @Nonnull UUID gameid, @Nonnull IntConsumer progress) {
+        return searchForMarkers(map, map.getCenter(), map.getRadius(), gameid, progress).thenRun(() -> {
+            List<Marker> errored = new ArrayList<>();
 
-        map.getMarkers().removeAll(errored);
+            map.getMarkers().stream().filter(marker -> marker.getData().startsWith("chest:"))
+                    .forEach(marker -> {
+                        String name = marker.getData().replace("chest:", "");
+                        if (!map.getChestMarker(name).isPresent()) {
+                            log.warning(
+                                    "Could not find a chest " + name + " for marker at " + marker.getLoc().toString());
+                            errored.add(marker);
+                        }
+                    });
 
-        List<ChestMarker> errored2 = new ArrayList<>();
+            map.getMarkers().removeAll(errored);
 
-        map.getChestMarkers().stream().filter(marker -> marker.getData().startsWith("container.chest"))
-                .forEach(marker -> {
-                    log.warning("Found unnamed chest at " + marker.getLoc().toString());
-                    errored2.add(marker);
-                });
+            List<ChestMarker> errored2 = new ArrayList<>();
 
-        map.getChestMarkers().removeAll(errored2);
+            map.getChestMarkers().stream().filter(marker -> marker.getData().startsWith("container.chest"))
+                    .forEach(marker -> {
+                        log.warning("Found unnamed chest at " + marker.getLoc().toString());
+                        errored2.add(marker);
+                    });
+
+            map.getChestMarkers().removeAll(errored2);
+        });
     }
 
     /**
-     * Searches the map for "markers". Most of the time these are implemented as tile entities (skulls)
+     * Searches the map for "markers". Most of the time these are implemented as tile entities (skulls)<br>
+     * The chunks are loaded async and copied into snapshots, which are searched for skulls and chests off the main
+     * thread. Only the tile entities at the found positions are read on the main thread.
      *
-     * @param map    the map to scan
-     * @param center the center location
-     * @param range  the range in where to scan
+     * @param map      the map to scan
+     * @param center   the center location
+     * @param range    the range in where to scan
+     * @param gameid   the id of the game that the map belongs to
+     * @param progress notified with the scan progress in percent, always on the main thread
+     * @return a future that is completed on the main thread once the markers have been set on the map
+     * @throws MapException if the world of the map isn't loaded
      */
-    public void searchForMarkers(@Nonnull Map map, @Nonnull Vector3D center, int range, @Nonnull UUID gameid) {
+    @Nonnull
+    public CompletableFuture<Void> searchForMarkers(@Nonnull Map map, @Nonnull Vector3D center, int range, @Nonnull UUID gameid, @Nonnull IntConsumer progress) {
         World world = Bukkit.getWorld(map.getLoadedName(gameid));
         if (world == null) {
             throw new MapException("Could not find world " + map.getLoadedName(gameid) + "(" + map.getInfo().getDisplayName() + ")" + ". Is it loaded?");
         }
 
-        List<Marker> markers = new ArrayList<>();
-        List<ChestMarker> chestMarkers = new ArrayList<>();
-
         int startX = (int) center.getX();
         int startY = (int) center.getZ();
 
@@ -94,37 +109,109 @@ public class MapScanner {
         int maxX = Math.max(startX - range, startX + range);
         int maxZ = Math.max(startY - range, startY + range);
 
+        List<CompletableFuture<Chunk>> chunks = new ArrayList<>();
         for (int x = minX; x <= maxX; x += 16) {
             for (int z = minZ; z <= maxZ; z += 16) {
-                Chunk chunk = world.getChunkAt(x >> 4, z >> 4);
-                for (BlockState te : chunk.getTileEntities()) {
-                    if (te.getType() == Material.PLAYER_HEAD) {
-                        Skull skull = (Skull) te;
-                        String markerData = getMarkerData(skull);
-                        if (markerData == null) continue;
-                        MarkerDefinition markerDefinition = mapHandler.createMarkerDefinition(markerData);
-                        markers.add(new Marker(new Vector3D(skull.getX(), skull.getY(), skull.getZ()),
-                                DirectionUtil.directionToYaw(skull.getRotation()),
-                                markerData, markerDefinition));
-                    } else if (te.getType() == Material.CHEST) {
-                        Chest chest = (Chest) te;
-                        String name = chest.getBlockInventory().getName();
-                        ItemStack[] items = new ItemStack[chest.getBlockInventory()
-                                .getStorageContents().length];
-                        for (int i = 0; i < items.length; i++) {
-                            ItemStack is = chest.getBlockInventory().getItem(i);
-                            if (is == null) {
-                                items[i] = new ItemStack(Material.AIR);
-                            } else {
-                                items[i] = is;
+                chunks.add(world.getChunkAtAsync(x >> 4, z >> 4));
+            }
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).whenComplete((v, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            Bukkit.getScheduler().runTask(voxelGamesLib, () -> {
+                // snapshots need to be taken on the main thread, they are cheap copies of the block data
+                List<ChunkSnapshot> snapshots = new ArrayList<>(chunks.size());
+                chunks.forEach(chunk -> snapshots.add(chunk.join().getChunkSnapshot(false, false, false)));
+
+                Bukkit.getScheduler().runTaskAsynchronously(voxelGamesLib, () -> {
+                    List<Vector3D> positions = findMarkerBlocks(snapshots, progress);
+
+                    Bukkit.getScheduler().runTask(voxelGamesLib, () -> {
+                        try {
+                            readMarkers(map, world, positions);
+                            result.complete(null);
+                        } catch (Exception e) {
+                            result.completeExceptionally(e);
+                        }
+                    });
+                });
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Searches the snapshots for blocks that could be markers. Runs off the main thread.
+     */
+    @Nonnull
+    private List<Vector3D> findMarkerBlocks(@Nonnull List<ChunkSnapshot> snapshots, @Nonnull IntConsumer progress) {
+        List<Vector3D> positions = new ArrayList<>();
+        int lastPercent = 0;
+        for (int i = 0; i < snapshots.size(); i++) {
+            ChunkSnapshot snapshot = snapshots.get(i);
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+            for (int section = 0; section < 16; section++) {
+                if (snapshot.isSectionEmpty(section)) continue;
+                for (int y = section << 4; y < (section + 1) << 4; y++) {
+                    for (int x = 0; x < 16; x++) {
+                        for (int z = 0; z < 16; z++) {
+                            Material type = snapshot.getBlockType(x, y, z);
+                            if (type == Material.PLAYER_HEAD || type == Material.CHEST) {
+                                positions.add(new Vector3D(baseX + x, y, baseZ + z));
                             }
                         }
-                        chestMarkers
-                                .add(new ChestMarker(new Vector3D(chest.getX(), chest.getY(), chest.getZ()), name,
-                                        items));
                     }
                 }
             }
+
+            int percent = (i + 1) * 100 / snapshots.size();
+            if (percent / 10 > lastPercent / 10) {
+                lastPercent = percent;
+                Bukkit.getScheduler().runTask(voxelGamesLib, () -> progress.accept(percent));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Reads the markers from the tile entities at the given positions. Needs to run on the main thread.
+     */
+    private void readMarkers(@Nonnull Map map, @Nonnull World world, @Nonnull List<Vector3D> positions) {
+        List<Marker> markers = new ArrayList<>();
+        List<ChestMarker> chestMarkers = new ArrayList<>();
+
+        for (Vector3D pos : positions) {
+            BlockState te = world.getBlockAt((int) pos.getX(), (int) pos.getY(), (int) pos.getZ()).getState();
+            if (te.getType() == Material.PLAYER_HEAD && te instanceof Skull) {
+                Skull skull = (Skull) te;
+                String markerData = getMarkerData(skull);
+                if (markerData == null) continue;
+                MarkerDefinition markerDefinition = mapHandler.createMarkerDefinition(markerData);
+                markers.add(new Marker(new Vector3D(skull.getX(), skull.getY(), skull.getZ()),
+                        DirectionUtil.directionToYaw(skull.getRotation()),
+                        markerData, markerDefinition));
+            } else if (te.getType() == Material.CHEST && te instanceof Chest) {
+                Chest chest = (Chest) te;
+                String name = chest.getBlockInventory().getName();
+                ItemStack[] items = new ItemStack[chest.getBlockInventory()
+                        .getStorageContents().length];
+                for (int i = 0; i < items.length; i++) {
+                    ItemStack is = chest.getBlockInventory().getItem(i);
+                    if (is == null) {
+                        items[i] = new ItemStack(Material.AIR);
+                    } else {
+                        items[i] = is;
+                    }
+                }
+                chestMarkers
+                        .add(new ChestMarker(new Vector3D(chest.getX(), chest.getY(), chest.getZ()), name,
+                                items));
+            }
         }
 
         map.setMarkers(markers);
@@ -12,6 +12,8 @@ import com.voxelgameslib.voxelgameslib.api.exception.UserException;
 import com.voxelgameslib.voxelgameslib.components.user.User;
 import com.voxelgameslib.voxelgameslib.components.user.UserHandler;
 
+import org.bukkit.Material;
+import org.bukkit.block.BlockState;
 import org.bukkit.block.Sign;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -59,19 +61,38 @@ public class SignButtons implements Listener {
         if (event.getAction() != Action.RIGHT_CLICK_BLOCK || event.getClickedBlock() == null) {
             return;
         }
-        // is block a sign?
-        if (event.getClickedBlock().getState() instanceof Sign) {
-            User user = userHandler.getUser(event.getPlayer().getUniqueId()).orElseThrow(() -> new UserException(
-                    "Unknown user " + event.getPlayer().getDisplayName() + "(" + event.getPlayer().getUniqueId() + ")"));
-            Sign sign = (Sign) event.getClickedBlock().getState();
-            for (int i = 0; i < sign.getLines().length; i++) {
-                String line = sign.getLines()[i];
-                for (String key : getButtons().keySet()) {
-                    if (line.contains("[" + key + "]")) {
-                        //TODO implement perm check
-                        getButtons().get(key).execute(user, event.getClickedBlock());
+        // is block a sign? check the type first, getState() snapshots the tile entity
+        Material type = event.getClickedBlock().getType();
+        if (type != Material.SIGN && type != Material.WALL_SIGN) {
+            return;
+        }
+        BlockState state = event.getClickedBlock().getState();
+        if (!(state instanceof Sign)) {
+            return;
+        }
+
+        Sign sign = (Sign) state;
+        User user = null;
+        for (String line : sign.getLines()) {
+            // look up every [key] token on this line
+            int start = line.indexOf('[');
+            while (start != -1) {
+                int end = line.indexOf(']', start + 1);
+                if (end == -1) {
+                    break;
+                }
+
+                SignButton button = buttons.get(line.substring(start + 1, end));
+                if (button != null) {
+                    if (user == null) {
+                        user = userHandler.getUser(event.getPlayer().getUniqueId()).orElseThrow(() -> new UserException(
+                                "Unknown user " + event.getPlayer().getDisplayName() + "(" + event.getPlayer().getUniqueId() + ")"));
                     }
+                    //TODO implement perm check
+                    button.execute(user, event.getClickedBlock());
                 }
+
+                start = line.indexOf('[', end + 1);
             }
         }
     }
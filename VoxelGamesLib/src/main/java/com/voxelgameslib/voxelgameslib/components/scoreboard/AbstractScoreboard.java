@@ -3,10 +3,14 @@ package com.voxelgameslib.voxelgameslib.components.scoreboard;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.voxelgameslib.voxelgameslib.api.exception.ScoreboardException;
 import com.voxelgameslib.voxelgameslib.components.user.User;
@@ -21,6 +25,75 @@ public abstract class AbstractScoreboard implements Scoreboard {
     private Map<String, Integer> keys = new HashMap<>();
     private int nextPos = 1;
 
+    @Nullable
+    private ScoreboardHandler scoreboardHandler;
+    private Map<ScoreboardLine, String> sentContent = new IdentityHashMap<>();
+    private Set<ScoreboardLine> pendingLines = new LinkedHashSet<>();
+
+    /**
+     * Sets the handler which flushes pending line changes once per tick. If no handler is set, changes are sent
+     * right away
+     *
+     * @param scoreboardHandler the handler to use
+     */
+    public void setScoreboardHandler(@Nullable ScoreboardHandler scoreboardHandler) {
+        this.scoreboardHandler = scoreboardHandler;
+    }
+
+    /**
+     * Queues a line to be sent to the viewers of this board. Multiple updates to a line within one tick are coalesced
+     * and nothing is sent if the rendered content didn't change since it was last sent.
+     *
+     * @param line the line that changed
+     */
+    public void updateLine(@Nonnull ScoreboardLine line) {
+        pendingLines.add(line);
+        if (scoreboardHandler != null) {
+            scoreboardHandler.markDirty(this);
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all pending lines whose content differs from what the viewers currently see
+     */
+    public void flush() {
+        if (pendingLines.isEmpty()) {
+            return;
+        }
+
+        for (ScoreboardLine line : pendingLines) {
+            String content = line.getValue();
+            if (!content.equals(sentContent.get(line))) {
+                sendLine(line, content);
+                sentContent.put(line, content);
+            }
+        }
+        pendingLines.clear();
+    }
+
+    /**
+     * Remembers that the viewers already received the given content for a line, e.g. because it was sent when the
+     * line was created
+     *
+     * @param line    the line that was sent
+     * @param content the content that was sent
+     */
+    protected void markSent(@Nonnull ScoreboardLine line, @Nonnull String content) {
+        sentContent.put(line, content);
+    }
+
+    /**
+     * Actually sends a line to the viewers of this board, only called if the content changed
+     *
+     * @param line    the line to send
+     * @param content the new content of the line
+     */
+    protected void sendLine(@Nonnull ScoreboardLine line, @Nonnull String content) {
+        // NOP, implementations that need to push lines to clients override this
+    }
+
     @Override
     public void addLine(int key, @Nonnull ScoreboardLine line) {
         lines.put(key, line);
@@ -43,6 +116,18 @@ public abstract class AbstractScoreboard implements Scoreboard {
         return pos;
     }
 
+    /**
+     * Adds a line at a given position and names it key for easy access
+     *
+     * @param key  the name of this line, for easy access
+     * @param pos  the position of the line
+     * @param line the new line
+     */
+    protected void addLine(@Nonnull String key, int pos, @Nonnull ScoreboardLine line) {
+        addLine(pos, line);
+        keys.put(key, pos);
+    }
+
     @Override
     public void removeLine(@Nonnull String key) {
         Integer pos = keys.get(key);
@@ -55,7 +140,11 @@ public abstract class AbstractScoreboard implements Scoreboard {
 
     @Override
     public void removeLine(int key) {
-        lines.remove(key);
+        ScoreboardLine line = lines.remove(key);
+        if (line != null) {
+            sentContent.remove(line);
+            pendingLines.remove(line);
+        }
     }
 
     @Override
@@ -32,7 +32,16 @@ public class BukkitScoreboard extends AbstractScoreboard {
 
     @Override
     public void setTitle(@Nonnull String title) {
-        objective.setDisplayName(title);
+        if (!title.equals(objective.getDisplayName())) {
+            objective.setDisplayName(title);
+        }
+    }
+
+    @Override
+    protected void sendLine(@Nonnull ScoreboardLine line, @Nonnull String content) {
+        if (line instanceof BukkitStringScoreboardLine) {
+            ((BukkitStringScoreboardLine) line).render(content);
+        }
     }
 
     @Override
@@ -71,7 +80,7 @@ public class BukkitScoreboard extends AbstractScoreboard {
     @Nonnull
     public StringScoreboardLine createAndAddLine(@Nonnull String content) {
         Team team = scoreboard.registerNewTeam("line" + RandomUtil.generateString(8));
-        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team);
+        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team, this);
         int score = addLine(scoreboardLine);
         String entry = scoreboardLine.setScore(score);
         objective.getScore(entry).setScore(score);
@@ -83,7 +92,7 @@ public class BukkitScoreboard extends AbstractScoreboard {
     @Nonnull
     public StringScoreboardLine createAndAddLine(int pos, @Nonnull String content) {
         Team team = scoreboard.registerNewTeam("line" + pos);
-        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team);
+        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team, this);
         addLine(pos, scoreboardLine);
         String entry = scoreboardLine.setScore(pos);
         objective.getScore(entry).setScore(pos);
@@ -95,7 +104,7 @@ public class BukkitScoreboard extends AbstractScoreboard {
     @Nonnull
     public StringScoreboardLine createAndAddLine(@Nonnull String key, @Nonnull String content) {
         Team team = scoreboard.registerNewTeam("line" + key);
-        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team);
+        BukkitStringScoreboardLine scoreboardLine = new BukkitStringScoreboardLine(content, team, this);
         int score = addLine(key, scoreboardLine);
         String entry = scoreboardLine.setScore(score);
         objective.getScore(entry).setScore(score);
@@ -11,12 +11,13 @@ import org.bukkit.scoreboard.Team;
 public class BukkitStringScoreboardLine extends StringScoreboardLine {
 
     private Team team;
+    private AbstractScoreboard scoreboard;
     private String entry = "";
 
-    public BukkitStringScoreboardLine(@Nonnull String value, @Nonnull Team team) {
+    public BukkitStringScoreboardLine(@Nonnull String value, @Nonnull Team team, @Nonnull AbstractScoreboard scoreboard) {
         super(value);
         this.team = team;
-        setValue(value);
+        this.scoreboard = scoreboard;
     }
 
     @Nonnull
@@ -30,10 +31,20 @@ public class BukkitStringScoreboardLine extends StringScoreboardLine {
     }
 
     @Override
-    // thanks to this random gist https://gist.github.com/mkotb/d99eccdcc78a43ffb707
     public void setValue(@Nonnull String value) {
         super.setValue(value);
 
+        // the scoreboard decides when (and if) this actually needs to be rendered
+        scoreboard.updateLine(this);
+    }
+
+    /**
+     * Pushes the value to the team of this line, which causes packets to be sent to the viewers
+     *
+     * @param value the value to render
+     */
+    // thanks to this random gist https://gist.github.com/mkotb/d99eccdcc78a43ffb707
+    void render(@Nonnull String value) {
         Iterator<String> iterator = Splitter.fixedLength(16).split(value).iterator();
         String prefix = iterator.next();
 
@@ -0,0 +1,252 @@
+package com.voxelgameslib.voxelgameslib.components.scoreboard;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftReflection;
+import com.comphenix.protocol.wrappers.EnumWrappers;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import com.voxelgameslib.voxelgameslib.api.exception.ScoreboardException;
+import com.voxelgameslib.voxelgameslib.components.user.User;
+import com.voxelgameslib.voxelgameslib.util.utils.RandomUtil;
+
+import org.bukkit.ChatColor;
+
+/**
+ * A scoreboard that doesn't use bukkit scoreboards at all, but sends the objective, score and team packets directly
+ * via ProtocolLib. The only state that is kept is a small array with the content of every line.
+ */
+public class ProtocolScoreboard extends AbstractScoreboard {
+
+    private static final int MAX_LINES = 16;
+
+    private static final int OBJECTIVE_CREATE = 0;
+    private static final int OBJECTIVE_REMOVE = 1;
+    private static final int OBJECTIVE_UPDATE = 2;
+    private static final int TEAM_CREATE = 0;
+    private static final int TEAM_REMOVE = 1;
+    private static final int TEAM_UPDATE = 2;
+    private static final int SLOT_SIDEBAR = 1;
+
+    private final ProtocolManager protocolManager = ProtocolLibrary.getProtocolManager();
+    private final String objectiveName = "vgl" + RandomUtil.generateString(8);
+    private final ProtocolStringScoreboardLine[] lineArray = new ProtocolStringScoreboardLine[MAX_LINES];
+    private String title = "";
+
+    @Override
+    public void setImplObject(@Nonnull org.bukkit.scoreboard.Scoreboard object) {
+        // we don't use bukkit scoreboards
+    }
+
+    @Nonnull
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public void setTitle(@Nonnull String title) {
+        if (title.equals(this.title)) {
+            return;
+        }
+
+        this.title = title;
+        broadcast(createObjectivePacket(OBJECTIVE_UPDATE));
+    }
+
+    @Override
+    public void addUser(@Nonnull User user) {
+        if (isAdded(user)) {
+            return;
+        }
+        super.addUser(user);
+
+        send(user, createObjectivePacket(OBJECTIVE_CREATE));
+        send(user, createDisplayPacket());
+        for (ProtocolStringScoreboardLine line : lineArray) {
+            if (line != null) {
+                send(user, createTeamPacket(line, TEAM_CREATE));
+                send(user, createScorePacket(line, EnumWrappers.ScoreboardAction.CHANGE));
+            }
+        }
+    }
+
+    @Override
+    public void removeUser(@Nonnull User user) {
+        if (!isAdded(user)) {
+            return;
+        }
+        super.removeUser(user);
+
+        for (ProtocolStringScoreboardLine line : lineArray) {
+            if (line != null) {
+                send(user, createTeamPacket(line, TEAM_REMOVE));
+            }
+        }
+        send(user, createObjectivePacket(OBJECTIVE_REMOVE));
+    }
+
+    @Override
+    public void removeLine(int key) {
+        Optional<ScoreboardLine> line = getLine(key);
+        if (line.isPresent() && line.get() instanceof ProtocolStringScoreboardLine) {
+            ProtocolStringScoreboardLine protocolLine = (ProtocolStringScoreboardLine) line.get();
+            broadcast(createScorePacket(protocolLine, EnumWrappers.ScoreboardAction.REMOVE));
+            broadcast(createTeamPacket(protocolLine, TEAM_REMOVE));
+            lineArray[protocolLine.getScore()] = null;
+        }
+
+        super.removeLine(key);
+    }
+
+    @Override
+    protected void sendLine(@Nonnull ScoreboardLine line, @Nonnull String content) {
+        if (line instanceof ProtocolStringScoreboardLine) {
+            // send exactly the content we were given, that is what gets recorded as sent
+            broadcast(createTeamPacket((ProtocolStringScoreboardLine) line, TEAM_UPDATE, content));
+        }
+    }
+
+    @Override
+    @Nonnull
+    public StringScoreboardLine createAndAddLine(@Nonnull String content) {
+        int pos = nextFreePos();
+        ProtocolStringScoreboardLine line = new ProtocolStringScoreboardLine(content, pos, this);
+        addLine(pos, line);
+        return createLine(line);
+    }
+
+    @Override
+    @Nonnull
+    public StringScoreboardLine createAndAddLine(int pos, @Nonnull String content) {
+        checkPos(pos);
+        getLine(pos).ifPresent(old -> removeLine(pos));
+        ProtocolStringScoreboardLine line = new ProtocolStringScoreboardLine(content, pos, this);
+        addLine(pos, line);
+        return createLine(line);
+    }
+
+    @Override
+    @Nonnull
+    public StringScoreboardLine createAndAddLine(@Nonnull String key, @Nonnull String content) {
+        int pos = nextFreePos();
+        ProtocolStringScoreboardLine line = new ProtocolStringScoreboardLine(content, pos, this);
+        addLine(key, pos, line);
+        return createLine(line);
+    }
+
+    @Nonnull
+    private ProtocolStringScoreboardLine createLine(@Nonnull ProtocolStringScoreboardLine line) {
+        lineArray[line.getScore()] = line;
+        markSent(line, line.getValue());
+        broadcast(createTeamPacket(line, TEAM_CREATE));
+        broadcast(createScorePacket(line, EnumWrappers.ScoreboardAction.CHANGE));
+        return line;
+    }
+
+    private int nextFreePos() {
+        for (int i = 1; i < MAX_LINES; i++) {
+            if (!getLine(i).isPresent()) {
+                return i;
+            }
+        }
+        throw new ScoreboardException("Scoreboard " + objectiveName + " is full, can't have more than " + (MAX_LINES - 1) + " lines");
+    }
+
+    private void checkPos(int pos) {
+        if (pos < 0 || pos >= MAX_LINES) {
+            throw new ScoreboardException("Invalid line position " + pos + ", needs to be between 0 and " + (MAX_LINES - 1));
+        }
+    }
+
+    @Nonnull
+    private PacketContainer createObjectivePacket(int mode) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SCOREBOARD_OBJECTIVE);
+        packet.getStrings().write(0, objectiveName);
+        packet.getIntegers().write(0, mode);
+        packet.getChatComponents().write(0, WrappedChatComponent.fromText(title));
+        packet.getEnumModifier(HealthDisplay.class, 2).write(0, HealthDisplay.INTEGER);
+        return packet;
+    }
+
+    @Nonnull
+    private PacketContainer createDisplayPacket() {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SCOREBOARD_DISPLAY_OBJECTIVE);
+        packet.getIntegers().write(0, SLOT_SIDEBAR);
+        packet.getStrings().write(0, objectiveName);
+        return packet;
+    }
+
+    @Nonnull
+    private PacketContainer createScorePacket(@Nonnull ProtocolStringScoreboardLine line, @Nonnull EnumWrappers.ScoreboardAction action) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SCOREBOARD_SCORE);
+        packet.getStrings().write(0, line.getEntry());
+        packet.getStrings().write(1, objectiveName);
+        packet.getIntegers().write(0, line.getScore());
+        packet.getScoreboardActions().write(0, action);
+        return packet;
+    }
+
+    @Nonnull
+    private PacketContainer createTeamPacket(@Nonnull ProtocolStringScoreboardLine line, int mode) {
+        return createTeamPacket(line, mode, line.getValue());
+    }
+
+    @Nonnull
+    private PacketContainer createTeamPacket(@Nonnull ProtocolStringScoreboardLine line, int mode, @Nonnull String content) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SCOREBOARD_TEAM);
+        packet.getStrings().write(0, line.getTeamName());
+        packet.getIntegers().write(0, mode);
+        if (mode == TEAM_CREATE || mode == TEAM_UPDATE) {
+            // since 1.13 prefixes are components without length limit, so no need to split the content
+            packet.getChatComponents().write(0, WrappedChatComponent.fromText(line.getTeamName()));
+            packet.getChatComponents().write(1, WrappedChatComponent.fromText(content));
+            packet.getChatComponents().write(2, WrappedChatComponent.fromText(""));
+            packet.getStrings().write(1, "always");
+            packet.getStrings().write(2, "always");
+            packet.getEnumModifier(ChatColor.class, MinecraftReflection.getMinecraftClass("EnumChatFormat")).write(0, ChatColor.RESET);
+        }
+        if (mode == TEAM_CREATE) {
+            packet.getSpecificModifier(Collection.class).write(0, Collections.singletonList(line.getEntry()));
+        }
+        return packet;
+    }
+
+    private void broadcast(@Nonnull PacketContainer packet) {
+        for (User user : getUsers()) {
+            send(user, packet);
+        }
+    }
+
+    private void send(@Nonnull User user, @Nonnull PacketContainer packet) {
+        try {
+            protocolManager.sendServerPacket(user.getPlayer(), packet);
+        } catch (InvocationTargetException e) {
+            throw new ScoreboardException("Could not send scoreboard packet to " + user.getRawDisplayName(), e);
+        }
+    }
+
+    /**
+     * @return the name of the objective of this board, unique per board
+     */
+    @Nonnull
+    public String getObjectiveName() {
+        return objectiveName;
+    }
+
+    /**
+     * Mirror of the health display enum of the objective packet, we always display numbers
+     */
+    private enum HealthDisplay {
+        INTEGER,
+        HEARTS
+    }
+}
@@ -0,0 +1,52 @@
+package com.voxelgameslib.voxelgameslib.components.scoreboard;
+
+import javax.annotation.Nonnull;
+
+import org.bukkit.ChatColor;
+
+/**
+ * A line of a {@link ProtocolScoreboard}, only holds the score and entry, the rest is sent via packets
+ */
+public class ProtocolStringScoreboardLine extends StringScoreboardLine {
+
+    private final ProtocolScoreboard scoreboard;
+    private final int score;
+    private final String entry;
+    private final String teamName;
+
+    public ProtocolStringScoreboardLine(@Nonnull String value, int score, @Nonnull ProtocolScoreboard scoreboard) {
+        super(value);
+        this.scoreboard = scoreboard;
+        this.score = score;
+        this.entry = ChatColor.values()[score].toString();
+        // teams are global for the client, prefix with the board so we don't clash with other boards
+        this.teamName = scoreboard.getObjectiveName() + "_" + score;
+    }
+
+    @Override
+    public void setValue(@Nonnull String value) {
+        super.setValue(value);
+
+        scoreboard.updateLine(this);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return the (invisible) entry that is used for the score of this line
+     */
+    @Nonnull
+    public String getEntry() {
+        return entry;
+    }
+
+    /**
+     * @return the name of the team that renders the content of this line
+     */
+    @Nonnull
+    public String getTeamName() {
+        return teamName;
+    }
+}
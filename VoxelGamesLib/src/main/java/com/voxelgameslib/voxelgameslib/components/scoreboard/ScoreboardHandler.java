@@ -1,28 +1,76 @@
 package com.voxelgameslib.voxelgameslib.components.scoreboard;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
+import com.voxelgameslib.voxelgameslib.internal.config.GlobalConfig;
 import com.voxelgameslib.voxelgameslib.internal.handler.Handler;
 
 import org.bukkit.Bukkit;
 
+@Singleton
 public class ScoreboardHandler implements Handler {
 
+    @Inject
+    private VoxelGamesLib voxelGamesLib;
+    @Inject
+    private GlobalConfig config;
+
+    private final Set<AbstractScoreboard> dirtyScoreboards = new LinkedHashSet<>();
+
     @Override
     public void enable() {
-
+        Bukkit.getScheduler().runTaskTimer(voxelGamesLib, this::flush, 1L, 1L);
     }
 
     @Override
     public void disable() {
-
+        flush();
     }
 
+    /**
+     * Creates a new scoreboard. Depending on the config, this is either backed by a bukkit scoreboard or by packets
+     *
+     * @param name the title of the scoreboard
+     * @return the new scoreboard
+     */
     @Nonnull
     public Scoreboard createScoreboard(@Nonnull String name) {
-        BukkitScoreboard scoreboard = new BukkitScoreboard();
-        scoreboard.setImplObject(Bukkit.getScoreboardManager().getNewScoreboard());
+        AbstractScoreboard scoreboard;
+        if (config.useProtocolScoreboards) {
+            scoreboard = new ProtocolScoreboard();
+        } else {
+            scoreboard = new BukkitScoreboard();
+            scoreboard.setImplObject(Bukkit.getScoreboardManager().getNewScoreboard());
+        }
+        scoreboard.setScoreboardHandler(this);
         scoreboard.setTitle(name);
         return scoreboard;
     }
+
+    /**
+     * Marks a scoreboard as having pending line changes, they will be sent at the end of the tick
+     *
+     * @param scoreboard the scoreboard that changed
+     */
+    public void markDirty(@Nonnull AbstractScoreboard scoreboard) {
+        dirtyScoreboards.add(scoreboard);
+    }
+
+    /**
+     * Sends the pending line changes of all scoreboards that changed since the last flush
+     */
+    public void flush() {
+        if (dirtyScoreboards.isEmpty()) {
+            return;
+        }
+
+        new ArrayList<>(dirtyScoreboards).forEach(AbstractScoreboard::flush);
+        dirtyScoreboards.clear();
+    }
 }
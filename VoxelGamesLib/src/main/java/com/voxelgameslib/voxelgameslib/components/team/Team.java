@@ -2,7 +2,11 @@ package com.voxelgameslib.voxelgameslib.components.team;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import javax.annotation.Nonnull;
 
 import com.voxelgameslib.voxelgameslib.api.game.Game;
@@ -19,6 +23,7 @@ public class Team {
     private int teamSize;
     private String name = "<unknown>";
     private List<User> players = new ArrayList<>();
+    private Set<UUID> members = new HashSet<>();
     private ChatColor color;
     private Game game;
 
@@ -34,16 +39,22 @@ public class Team {
 
     public void join(@Nonnull User user, @Nonnull Rating rating) {
         players.add(user);
+        members.add(user.getUuid());
         jskillTeam.addPlayer(user, rating);
+        game.setTeam(user.getUuid(), this);
     }
 
     public void leave(@Nonnull User user) {
         players.remove(user);
+        members.remove(user.getUuid());
         jskillTeam.remove(user);
+        if (game.getTeam(user.getUuid()).filter(team -> team == this).isPresent()) {
+            game.setTeam(user.getUuid(), null);
+        }
     }
 
     public boolean contains(@Nonnull User user) {
-        return players.stream().anyMatch(i -> user.getUuid().equals(i.getUuid()));
+        return members.contains(user.getUuid());
     }
 
     public jskills.Team getJskillTeam() {
@@ -58,8 +69,12 @@ public class Team {
         return this.name;
     }
 
+    /**
+     * @return an unmodifiable view of the players in this team, use {@link #join(User, Rating)} and {@link
+     * #leave(User)} to change it
+     */
     public List<User> getPlayers() {
-        return this.players;
+        return Collections.unmodifiableList(this.players);
     }
 
     public ChatColor getColor() {
@@ -82,8 +97,24 @@ public class Team {
         this.name = name;
     }
 
+    /**
+     * Replaces the players of this team. Goes through {@link #leave(User)} and {@link #join(User, Rating)}, so the
+     * jskill team and the team lookup of the game stay in sync. Players that stay keep their rating, new players join
+     * with their rating for the mode of the game.
+     *
+     * @param players the new players
+     */
     public void setPlayers(List<User> players) {
-        this.players = players;
+        for (User user : new ArrayList<>(this.players)) {
+            if (!players.contains(user)) {
+                leave(user);
+            }
+        }
+        for (User user : players) {
+            if (!contains(user)) {
+                join(user, user.getRating(game.getGameMode()));
+            }
+        }
     }
 
     public void setColor(ChatColor color) {
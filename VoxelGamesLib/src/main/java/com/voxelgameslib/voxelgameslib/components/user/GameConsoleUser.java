@@ -96,6 +96,11 @@ public class GameConsoleUser implements ConsoleUser {
         // ignore
     }
 
+    @Override
+    public void setRating(@Nonnull GameMode mode, @Nonnull Rating rating) {
+        // ignore
+    }
+
     @Override
     @Nonnull
     public Map<String, RatingWrapper> getRatings() {
@@ -157,10 +157,15 @@ public class GamePlayer implements User {
 
     @Override
     public void saveRating(@Nonnull GameMode mode, @Nonnull Rating rating) {
-        userData.getRatings().put(mode.getName(), new RatingWrapper(rating));
+        setRating(mode, rating);
         persistenceHandler.getProvider().saveUser(getUserData());
     }
 
+    @Override
+    public void setRating(@Nonnull GameMode mode, @Nonnull Rating rating) {
+        userData.getRatings().put(mode.getName(), new RatingWrapper(rating));
+    }
+
     @Override
     public void refreshDisplayName() {
         userData.setDisplayName(null); // regenerate full display name
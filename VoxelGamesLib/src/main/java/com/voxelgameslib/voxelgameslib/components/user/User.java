@@ -125,6 +125,14 @@ public interface User extends IPlayer, ISupportPartialPlay, ISupportPartialUpdat
      */
     void saveRating(@Nonnull GameMode mode, @Nonnull Rating rating);
 
+    /**
+     * Sets a rating for this users without persisting it. will override existing ratings
+     *
+     * @param mode   the mode the rating was achieved in
+     * @param rating the new rating
+     */
+    void setRating(@Nonnull GameMode mode, @Nonnull Rating rating);
+
     /**
      * Causes a new display name to be generated, based on the raw display name, prefix and suffix
      */
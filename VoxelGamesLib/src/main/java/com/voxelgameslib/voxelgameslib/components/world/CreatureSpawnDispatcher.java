@@ -0,0 +1,58 @@
+package com.voxelgameslib.voxelgameslib.components.world;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.inject.Singleton;
+
+import com.voxelgameslib.voxelgameslib.api.feature.features.MobFeature;
+
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+
+/**
+ * Routes creature spawn events to the mob feature that is responsible for the world the creature spawns in. This way
+ * there is only one listener for all games instead of one per active mob feature.
+ */
+@Singleton
+public class CreatureSpawnDispatcher implements Listener {
+
+    private final Map<World, MobFeature> features = new IdentityHashMap<>();
+
+    /**
+     * Makes the feature receive the spawn events of the given world
+     *
+     * @param world   the world the feature controls
+     * @param feature the feature that should handle the spawns
+     */
+    public void register(@Nonnull World world, @Nonnull MobFeature feature) {
+        features.put(world, feature);
+    }
+
+    /**
+     * Stops sending spawn events of the world to the feature. Does nothing if another feature took over the world in
+     * the meantime.
+     *
+     * @param world   the world the feature controlled
+     * @param feature the feature to unregister
+     */
+    public void unregister(@Nonnull World world, @Nonnull MobFeature feature) {
+        if (features.get(world) == feature) {
+            features.remove(world);
+        }
+    }
+
+    @EventHandler
+    public void onSpawn(@Nonnull CreatureSpawnEvent event) {
+        if (features.isEmpty()) {
+            return;
+        }
+
+        MobFeature feature = features.get(event.getLocation().getWorld());
+        if (feature != null) {
+            feature.onSpawn(event);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.voxelgameslib.voxelgameslib.VoxelGamesLib;
 import com.voxelgameslib.voxelgameslib.api.exception.MapException;
 import com.voxelgameslib.voxelgameslib.api.exception.WorldException;
 import com.voxelgameslib.voxelgameslib.components.map.Map;
@@ -71,6 +72,8 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
     @Inject
     private MapScanner mapScanner;
     @Inject
+    private VoxelGamesLib voxelGamesLib;
+    @Inject
     private WorldRepository worldRepository;
     @Inject
     private MapHandler mapHandler;
@@ -321,7 +324,17 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
         configHandler.saveConfig(configFile, config);
     }
 
-    public void finishWorldEditing(@Nonnull User editor, @Nonnull Map map) {
+    /**
+     * Saves the world the editor is working on, scans it for markers and stores the map in the world repository. The
+     * scan runs async, so the world and the edit game need to stay around until the returned future is done.
+     *
+     * @param editor the user that edited the map
+     * @param map    the map that was edited
+     * @return a future that is completed on the main thread once the map was saved, or completed exceptionally if
+     * scanning or saving failed. the editor was already told about the error in that case
+     */
+    @Nonnull
+    public CompletableFuture<Void> finishWorldEditing(@Nonnull User editor, @Nonnull Map map) {
         World world = Bukkit.getWorld(map.getLoadedName(editor.getUuid()));
         world.setSpawnLocation((int) map.getCenter().getX(), (int) map.getCenter().getY(), (int) map.getCenter().getZ());
         world.setAutoSave(true);
@@ -329,8 +342,33 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
 
         NMSUtil.flushSaveQueue(world);
 
-        mapScanner.scan(map, editor.getUuid());
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<Void> scan;
+        try {
+            scan = mapScanner.scan(map, editor.getUuid(), progress -> Lang.msg(editor, LangKey.WORLD_CREATOR_SCAN_PROGRESS, progress));
+        } catch (MapException ex) {
+            scan = new CompletableFuture<>();
+            scan.completeExceptionally(ex);
+        }
+        // chunk loading errors complete the scan off the main thread
+        scan.whenComplete((v, ex) -> Bukkit.getScheduler().runTask(voxelGamesLib, () -> {
+            if (ex != null) {
+                log.log(Level.WARNING, "Error while scanning the map for markers", ex);
+                Lang.msg(editor, LangKey.WORLD_CREATOR_SCAN_ERROR, ex.getMessage(), ex.getClass().getName());
+                result.completeExceptionally(ex);
+            } else if (saveMap(editor, map)) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(new WorldException("Could not save map " + map.getWorldName()));
+            }
+        }));
+        return result;
+    }
 
+    /**
+     * @return if the map was saved, if not the editor was told why
+     */
+    private boolean saveMap(@Nonnull User editor, @Nonnull Map map) {
         File worldFolder = new File(getWorldContainer(), map.getWorldName());
 
         try {
@@ -341,7 +379,7 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
             Lang.msg(editor, LangKey.WORLD_CREATOR_SAVE_CONFIG_ERROR, e.getMessage(),
                     e.getClass().getName());
             log.log(Level.WARNING, "Error while saving the world config", e);
-            return;
+            return false;
         }
 
         ZipFile zip;
@@ -351,7 +389,7 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
             Lang.msg(editor, LangKey.WORLD_CREATOR_SAVE_ZIP_ERROR, e.getMessage(),
                     e.getClass().getName());
             log.log(Level.WARNING, "Error while creating the zip", e);
-            return;
+            return false;
         }
 
         try {
@@ -374,6 +412,7 @@ public class WorldHandler implements Handler, Provider<WorldConfig> {
         getWorldRepository().commitRepo();
 
         Lang.msg(editor, LangKey.WORLD_CREATOR_DONE);
+        return true;
     }
 
     public File getWorldContainer() {
@@ -58,6 +58,9 @@ public class ConfigHandler implements Handler, Provider<GlobalConfig> {
 
         // set this here since log handler is loaded before the config
         loggingHandler.setLevel(Level.parse(globalConfig.logLevel));
+        if (globalConfig.logOverflowPolicy != null) {
+            loggingHandler.setOverflowPolicy(globalConfig.logOverflowPolicy);
+        }
     }
 
     public void saveGlobalConfig() {
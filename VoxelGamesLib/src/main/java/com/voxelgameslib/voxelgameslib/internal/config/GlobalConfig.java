@@ -8,6 +8,7 @@ import javax.annotation.Nonnull;
 import javax.inject.Singleton;
 
 import com.voxelgameslib.voxelgameslib.internal.lang.Locale;
+import com.voxelgameslib.voxelgameslib.internal.log.LogOverflowPolicy;
 import com.voxelgameslib.voxelgameslib.internal.persistence.PersistenceConfig;
 import com.voxelgameslib.voxelgameslib.util.utils.CollectionUtil;
 
@@ -17,13 +18,15 @@ import com.voxelgameslib.voxelgameslib.util.utils.CollectionUtil;
 @Singleton
 public class GlobalConfig extends Config {
 
-    public final int configVersion = 3;
+    public final int configVersion = 5;
     @Expose
     public int currentVersion = configVersion;
 
     @Expose
     public String logLevel = Level.INFO.getName();
     @Expose
+    public LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
+    @Expose
     public boolean useRoleSystem = true;
     @Expose
     public List<String> availableLanguages = CollectionUtil.toStringList(Locale.values(), Locale::getTag);
@@ -39,6 +42,8 @@ public class GlobalConfig extends Config {
     public boolean loadGameDefinitions = false;
     @Expose
     public String defaultGame = "none";
+    @Expose
+    public boolean useProtocolScoreboards = false;
 
     /**
      * @return the default config, with all default settings
@@ -146,6 +146,9 @@ public enum LangKey implements Translatable {
             "{red}Error while saving the world config, {yellow}{msg}:{exception}", "msg", "exception"),
     WORLD_CREATOR_SAVE_ZIP_ERROR("{red}Error while zipping the world, {yellow}{msg}:{exception}",
             "msg", "exception"),
+    WORLD_CREATOR_SCAN_ERROR("{red}Error while scanning the map for markers, the map was not saved. {yellow}{msg}:{exception}",
+            "msg", "exception"),
+    WORLD_CREATOR_SCAN_PROGRESS("{gray}Scanning the map for markers... {yellow}{progress}%", "progress"),
     WORLD_CREATOR_WRONG_STEP(
             "{red}You are trying to do the wrong step! You are at step {yellow}{step}{red}, you want to do step {yellow}{entered}{red}!",
             "step", "entered"),
@@ -0,0 +1,186 @@
+package com.voxelgameslib.voxelgameslib.internal.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Decouples the threads that log something from the (slow) formatting and writing of the log records.<br>
+ * Records are put into a {@link LogRingBuffer} and drained in batches by a single background thread which passes
+ * them on to the {@link LogFormatter}.
+ */
+public class AsyncLogWriter implements Runnable {
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LogFormatter logFormatter;
+    private final LogRingBuffer buffer;
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final AtomicLong failedRecords = new AtomicLong();
+    private volatile LogOverflowPolicy overflowPolicy = LogOverflowPolicy.BLOCK;
+    private volatile boolean running;
+    private volatile Thread thread;
+    private long reportedDrops;
+    private long reportedFailures;
+
+    public AsyncLogWriter(@Nonnull LogFormatter logFormatter, int capacity) {
+        this.logFormatter = logFormatter;
+        this.buffer = new LogRingBuffer(capacity);
+    }
+
+    /**
+     * Starts the background writer thread
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this, "VGL Log Writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the background writer thread, after writing everything that is still queued. Records logged afterwards are
+     * written on the calling thread.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues a record to be logged, can be called from any thread
+     *
+     * @param millis     the time the record was created at
+     * @param levelName  the name of the level of the record
+     * @param loggerName the name of the logger that created the record
+     * @param message    the message of the record
+     * @param throwable  the throwable that should be logged with the record, if any
+     */
+    public void log(long millis, String levelName, String loggerName, String message, @Nullable Throwable throwable) {
+        // writer is down or we got called by the writer itself (error handler, sout), nothing to queue to
+        if (!isWriterAlive() || Thread.currentThread() == thread) {
+            synchronized (logFormatter) {
+                logFormatter.log(millis, levelName, loggerName, message, throwable);
+            }
+            return;
+        }
+
+        QueuedLogRecord record = new QueuedLogRecord(millis, levelName, loggerName, message, throwable);
+        while (!buffer.offer(record)) {
+            if (overflowPolicy == LogOverflowPolicy.DROP || !isWriterAlive()) {
+                droppedRecords.incrementAndGet();
+                LockSupport.unpark(thread);
+                return;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        // the writer parks until there is something to do, a permit given before it parks isn't lost
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return if the writer thread is running and will pick up queued records
+     */
+    private boolean isWriterAlive() {
+        Thread writer = thread;
+        return running && writer != null && writer.isAlive();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (!drain()) {
+                    LockSupport.park(this);
+                }
+            }
+            drain();
+        } finally {
+            // if we die for whatever reason, make sure nobody waits for us anymore
+            running = false;
+        }
+    }
+
+    /**
+     * Writes everything that is currently in the buffer
+     *
+     * @return if anything was written
+     */
+    private boolean drain() {
+        boolean wroteSomething = false;
+        QueuedLogRecord record;
+        synchronized (logFormatter) {
+            while ((record = buffer.poll()) != null) {
+                write(record.millis, record.levelName, record.loggerName, record.message, record.throwable);
+                wroteSomething = true;
+            }
+
+            long dropped = droppedRecords.get();
+            if (dropped != reportedDrops) {
+                write(System.currentTimeMillis(), "WARNING", AsyncLogWriter.class.getName(),
+                        "Log buffer was full, dropped " + (dropped - reportedDrops) + " log records (" + dropped + " total)", null);
+                reportedDrops = dropped;
+            }
+
+            long failed = failedRecords.get();
+            if (failed != reportedFailures) {
+                long newFailures = failed - reportedFailures;
+                reportedFailures = failed;
+                write(System.currentTimeMillis(), "WARNING", AsyncLogWriter.class.getName(),
+                        "Failed to write " + newFailures + " log records (" + failed + " total)", null);
+            }
+        }
+        return wroteSomething;
+    }
+
+    /**
+     * Passes a record on to the formatter. A record that fails to be written is counted and skipped, so that one bad
+     * record can't kill the writer thread.
+     */
+    private void write(long millis, String levelName, String loggerName, String message, @Nullable Throwable throwable) {
+        try {
+            logFormatter.log(millis, levelName, loggerName, message, throwable);
+        } catch (Throwable t) {
+            failedRecords.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the amount of records that were dropped because the buffer was full
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * @return the amount of records that could not be written because the formatter threw an exception
+     */
+    public long getFailedRecords() {
+        return failedRecords.get();
+    }
+
+    /**
+     * @return what happens when something is logged while the buffer is full
+     */
+    @Nonnull
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @param overflowPolicy what should happen when something is logged while the buffer is full
+     */
+    public void setOverflowPolicy(@Nonnull LogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+}
@@ -6,14 +6,14 @@ import javax.annotation.Nonnull;
 
 public class JULForwardHandler extends ConsoleHandler {
 
-    private final LogFormatter logFormatter;
+    private final AsyncLogWriter logWriter;
 
-    public JULForwardHandler(LogFormatter logFormatter) {
-        this.logFormatter = logFormatter;
+    public JULForwardHandler(AsyncLogWriter logWriter) {
+        this.logWriter = logWriter;
     }
 
     public void publish(@Nonnull LogRecord record) {
-        logFormatter.log(record.getMillis(), record.getLevel().getName(), record.getLoggerName(), record.getMessage(), record.getThrown());
+        logWriter.log(record.getMillis(), record.getLevel().getName(), record.getLoggerName(), record.getMessage(), record.getThrown());
     }
 
     public void flush() {
@@ -5,15 +5,15 @@ import org.apache.logging.log4j.core.filter.AbstractFilter;
 
 public class Log4JForwardHandler extends AbstractFilter {
 
-    private LogFormatter logFormatter;
+    private AsyncLogWriter logWriter;
 
-    public Log4JForwardHandler(LogFormatter logFormatter) {
-        this.logFormatter = logFormatter;
+    public Log4JForwardHandler(AsyncLogWriter logWriter) {
+        this.logWriter = logWriter;
     }
 
     @Override
     public Result filter(LogEvent logEvent) {
-        logFormatter.log(logEvent.getTimeMillis(), logEvent.getLevel().name(), logEvent.getLoggerName(), logEvent.getMessage().getFormattedMessage(), logEvent.getThrown());
+        logWriter.log(logEvent.getTimeMillis(), logEvent.getLevel().name(), logEvent.getLoggerName(), logEvent.getMessage().getFormattedMessage(), logEvent.getThrown());
         return Result.DENY;
     }
 }
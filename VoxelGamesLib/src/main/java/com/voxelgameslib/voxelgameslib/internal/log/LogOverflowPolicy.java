@@ -0,0 +1,16 @@
+package com.voxelgameslib.voxelgameslib.internal.log;
+
+/**
+ * Defines what happens when a log record is logged while the log buffer is full
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * the record is discarded and counted as dropped
+     */
+    DROP,
+    /**
+     * the logging thread waits until the writer made room in the buffer
+     */
+    BLOCK
+}
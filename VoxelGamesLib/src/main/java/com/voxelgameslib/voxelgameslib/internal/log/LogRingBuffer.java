@@ -0,0 +1,80 @@
+package com.voxelgameslib.voxelgameslib.internal.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded, lock-free multi producer single consumer ring buffer for log records.<br>
+ * Every slot has a sequence number that tells producers and the consumer if the slot is free or filled, so neither
+ * side ever needs to take a lock.
+ */
+class LogRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<QueuedLogRecord> records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity the capacity of the buffer, will be rounded up to the next power of two
+     */
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.records = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Tries to add a record to the buffer, can be called from any thread
+     *
+     * @param record the record to add
+     * @return false if the buffer is full
+     */
+    boolean offer(@Nonnull QueuedLogRecord record) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    records.lazySet(index, record);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the next record out of the buffer, must only be called from the consumer thread
+     *
+     * @return the next record, or null if the buffer is empty
+     */
+    @Nullable
+    QueuedLogRecord poll() {
+        long pos = head.get();
+        int index = (int) (pos & mask);
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+
+        QueuedLogRecord record = records.get(index);
+        records.lazySet(index, null);
+        sequences.set(index, pos + mask + 1);
+        head.lazySet(pos + 1);
+        return record;
+    }
+}
@@ -31,8 +31,10 @@ import co.aikar.commands.annotation.Syntax;
 public class LoggingHandler extends BaseCommand implements Handler {
 
     private static final Logger log = Logger.getLogger(LoggingHandler.class.getName());
+    private static final int BUFFER_CAPACITY = 8192;
     private Logger parent;
     private Level level = Level.INFO;
+    private AsyncLogWriter logWriter;
 
     private ErrorHandler errorHandler;
 
@@ -71,6 +73,8 @@ public class LoggingHandler extends BaseCommand implements Handler {
             log.warning("COULD NOT FIND LOG4j APPENDER! FILE LOGGING IS DISABLED!");
         }
         LogFormatter logFormatter = new LogFormatter(log4jAppender, errorHandler);
+        logWriter = new AsyncLogWriter(logFormatter, BUFFER_CAPACITY);
+        logWriter.start();
 
         // fuck everyone
 
@@ -86,10 +90,10 @@ public class LoggingHandler extends BaseCommand implements Handler {
         // forward
 
         // get all log4j messages and let them go thru our handler
-        ((org.apache.logging.log4j.core.Logger) LogManager.getRootLogger()).addFilter(new Log4JForwardHandler(logFormatter));
+        ((org.apache.logging.log4j.core.Logger) LogManager.getRootLogger()).addFilter(new Log4JForwardHandler(logWriter));
 
         // get all jul messages and let them go thru our handler
-        global.addHandler(new JULForwardHandler(logFormatter));
+        global.addHandler(new JULForwardHandler(logWriter));
 
         // get all sout messages and let them go thru out handler (via jul)
         System.setOut(new PrintStream(new SoutForwardHandler(), true));
@@ -123,7 +127,27 @@ public class LoggingHandler extends BaseCommand implements Handler {
 
     @Override
     public void disable() {
+        if (logWriter != null) {
+            logWriter.stop();
+        }
+    }
+
+    /**
+     * Changes what happens when something is logged while the log buffer is full
+     *
+     * @param overflowPolicy the new policy
+     */
+    public void setOverflowPolicy(@Nonnull LogOverflowPolicy overflowPolicy) {
+        if (logWriter != null) {
+            logWriter.setOverflowPolicy(overflowPolicy);
+        }
+    }
 
+    /**
+     * @return the amount of log records that were dropped because the log buffer was full
+     */
+    public long getDroppedRecords() {
+        return logWriter != null ? logWriter.getDroppedRecords() : 0;
     }
 
     /**
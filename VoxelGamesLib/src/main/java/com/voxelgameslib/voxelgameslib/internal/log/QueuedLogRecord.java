@@ -0,0 +1,24 @@
+package com.voxelgameslib.voxelgameslib.internal.log;
+
+import javax.annotation.Nullable;
+
+/**
+ * A log record that is waiting in the {@link LogRingBuffer} to be written by the {@link AsyncLogWriter}
+ */
+class QueuedLogRecord {
+
+    final long millis;
+    final String levelName;
+    final String loggerName;
+    final String message;
+    @Nullable
+    final Throwable throwable;
+
+    QueuedLogRecord(long millis, String levelName, String loggerName, String message, @Nullable Throwable throwable) {
+        this.millis = millis;
+        this.levelName = levelName;
+        this.loggerName = loggerName;
+        this.message = message;
+        this.throwable = throwable;
+    }
+}
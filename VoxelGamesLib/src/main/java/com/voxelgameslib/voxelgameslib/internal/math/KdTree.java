@@ -0,0 +1,203 @@
+package com.voxelgameslib.voxelgameslib.internal.math;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A static 3d tree over a set of points, used to find the point that is the farthest away from a set of other points
+ * without looking at every point.
+ */
+public class KdTree {
+
+    private final Vector3D[] points;
+    private final int[] indices;
+    private final double[] min = new double[3];
+    private final double[] max = new double[3];
+
+    // search state, the tree is only used from the main thread
+    // the bounds of the region that is searched, one entry per depth so the search doesn't allocate
+    private final double[][] regionMin;
+    private final double[][] regionMax;
+    private double[][] others;
+    private double bestScore;
+    private int best;
+
+    /**
+     * Builds a new tree over the given points
+     *
+     * @param points the points, may not be empty
+     */
+    public KdTree(@Nonnull List<Vector3D> points) {
+        if (points.isEmpty()) {
+            throw new IllegalArgumentException("Can't build a tree without points");
+        }
+
+        this.points = points.toArray(new Vector3D[0]);
+        this.indices = new int[this.points.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        for (Vector3D point : this.points) {
+            for (int axis = 0; axis < 3; axis++) {
+                min[axis] = Math.min(min[axis], coord(point, axis));
+                max[axis] = Math.max(max[axis], coord(point, axis));
+            }
+        }
+
+        build(0, this.points.length, 0);
+
+        // the ranges are halved on every level, plus one level for the empty ranges below the leaves
+        int depth = 2;
+        for (int size = this.points.length; size > 0; size >>= 1) {
+            depth++;
+        }
+        regionMin = new double[depth][3];
+        regionMax = new double[depth][3];
+    }
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int axis = depth % 3;
+        // sorting the range is good enough here, the tree is built once per game
+        Integer[] order = new Integer[hi - lo];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = lo + i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> coord(points[i], axis)));
+        Vector3D[] sortedPoints = new Vector3D[order.length];
+        int[] sortedIndices = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedPoints[i] = points[order[i]];
+            sortedIndices[i] = indices[order[i]];
+        }
+        System.arraycopy(sortedPoints, 0, points, lo, order.length);
+        System.arraycopy(sortedIndices, 0, indices, lo, order.length);
+
+        int mid = (lo + hi) >>> 1;
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Searches the point which has the largest distance to the nearest of the given other points
+     *
+     * @param others the points to stay away from, as {x, y, z} arrays, may not be empty
+     * @return the index of the found point in the list this tree was built from
+     */
+    public int findFarthest(@Nonnull double[][] others) {
+        this.others = others;
+        this.bestScore = -1;
+        this.best = -1;
+        System.arraycopy(min, 0, regionMin[0], 0, 3);
+        System.arraycopy(max, 0, regionMax[0], 0, 3);
+        search(0, points.length, 0, upperBound(min, max, 0, min[0], max[0]));
+        this.others = null;
+        return indices[best];
+    }
+
+    /**
+     * Searches the range, the bounds of the region of the range are in {@link #regionMin} and {@link #regionMax} at
+     * the given depth
+     */
+    private void search(int lo, int hi, int depth, double bound) {
+        if (lo >= hi || bound <= bestScore) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        Vector3D point = points[mid];
+        double score = score(point);
+        if (score > bestScore) {
+            bestScore = score;
+            best = mid;
+        }
+
+        double[] rMin = regionMin[depth];
+        double[] rMax = regionMax[depth];
+        int axis = depth % 3;
+        double split = coord(point, axis);
+        double leftBound = upperBound(rMin, rMax, axis, rMin[axis], split);
+        double rightBound = upperBound(rMin, rMax, axis, split, rMax[axis]);
+
+        // descend into the more promising half first, so the other half can be pruned more often
+        if (leftBound >= rightBound) {
+            descend(lo, mid, depth, axis, rMin[axis], split, leftBound);
+            descend(mid + 1, hi, depth, axis, split, rMax[axis], rightBound);
+        } else {
+            descend(mid + 1, hi, depth, axis, split, rMax[axis], rightBound);
+            descend(lo, mid, depth, axis, rMin[axis], split, leftBound);
+        }
+    }
+
+    /**
+     * Sets up the region of the next depth as the region of this depth limited to [from, to] on the axis and searches
+     * it
+     */
+    private void descend(int lo, int hi, int depth, int axis, double from, double to, double bound) {
+        if (lo >= hi || bound <= bestScore) {
+            return;
+        }
+        double[] childMin = regionMin[depth + 1];
+        double[] childMax = regionMax[depth + 1];
+        System.arraycopy(regionMin[depth], 0, childMin, 0, 3);
+        System.arraycopy(regionMax[depth], 0, childMax, 0, 3);
+        childMin[axis] = from;
+        childMax[axis] = to;
+        search(lo, hi, depth + 1, bound);
+    }
+
+    /**
+     * @return the squared distance from the point to the nearest other point
+     */
+    private double score(@Nonnull Vector3D point) {
+        double nearest = Double.POSITIVE_INFINITY;
+        for (double[] other : others) {
+            nearest = Math.min(nearest, point.distanceSquared(other[0], other[1], other[2]));
+        }
+        return nearest;
+    }
+
+    /**
+     * @return the highest score any point in the region could have, with the region limited to [from, to] on the
+     * given axis
+     */
+    private double upperBound(@Nonnull double[] regionMin, @Nonnull double[] regionMax, int limitAxis, double from, double to) {
+        double bound = Double.POSITIVE_INFINITY;
+        for (double[] other : others) {
+            double dist = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double lo = axis == limitAxis ? from : regionMin[axis];
+                double hi = axis == limitAxis ? to : regionMax[axis];
+                double d = Math.max(Math.abs(other[axis] - lo), Math.abs(other[axis] - hi));
+                dist += d * d;
+            }
+            bound = Math.min(bound, dist);
+        }
+        return bound;
+    }
+
+    private static double coord(@Nonnull Vector3D point, int axis) {
+        switch (axis) {
+            case 0:
+                return point.getX();
+            case 1:
+                return point.getY();
+            default:
+                return point.getZ();
+        }
+    }
+
+    /**
+     * @return the number of points in this tree
+     */
+    public int size() {
+        return points.length;
+    }
+}
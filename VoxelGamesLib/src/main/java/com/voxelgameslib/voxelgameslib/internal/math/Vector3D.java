@@ -24,6 +24,7 @@ import javax.annotation.Nullable;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 /**
  * Represents an immutable vector in three dimensions. This class is not final by design.
@@ -249,6 +250,42 @@ public class Vector3D implements Cloneable {
         return (x * x) + (y * y) + (z * z);
     }
 
+    /**
+     * Gets the distance between this vector and another one
+     *
+     * @param other The other vector
+     * @return The distance
+     */
+    public double distance(@Nonnull Vector3D other) {
+        return Math.sqrt(distanceSquared(other.x, other.y, other.z));
+    }
+
+    /**
+     * Gets the squared distance between this vector and another one. Prefer this over {@link
+     * Vector3D#distance(Vector3D)} when comparing distances, it doesn't need a square root.
+     *
+     * @param other The other vector
+     * @return The squared distance
+     */
+    public double distanceSquared(@Nonnull Vector3D other) {
+        return distanceSquared(other.x, other.y, other.z);
+    }
+
+    /**
+     * Gets the squared distance between this vector and the given point, without creating a vector for the point
+     *
+     * @param x The x value of the point
+     * @param y The y value of the point
+     * @param z The z value of the point
+     * @return The squared distance
+     */
+    public double distanceSquared(double x, double y, double z) {
+        double dx = this.x - x;
+        double dy = this.y - y;
+        double dz = this.z - z;
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
     /**
      * Determines whether this vector is aligned to a block.
      *
@@ -271,6 +308,17 @@ public class Vector3D implements Cloneable {
         return new Location(Bukkit.getWorld(world), x, y, z);
     }
 
+    /**
+     * Converts this vector into a location, without having to look up the world by name
+     *
+     * @param world the world the location is located in
+     * @return the created location
+     */
+    @Nonnull
+    public Location toLocation(@Nonnull World world) {
+        return new Location(world, x, y, z);
+    }
+
     /**
      * Converts this vector into a two dimensional vector using this vector's {@link Vector3D#x} and {@link Vector3D#y}
      * values.
@@ -3,6 +3,7 @@ package com.voxelgameslib.voxelgameslib.internal.persistence;
 import net.kyori.text.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +34,11 @@ public class EmptyPersistenceProvider implements PersistenceProvider {
         // ignore
     }
 
+    @Override
+    public void saveUsers(@Nonnull Collection<UserData> users) {
+        // ignore
+    }
+
     @Override
     @Nonnull
     public Optional<UserData> loadUser(@Nonnull UUID id) {
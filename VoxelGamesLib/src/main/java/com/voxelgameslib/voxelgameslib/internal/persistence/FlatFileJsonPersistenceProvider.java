@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +81,12 @@ public class FlatFileJsonPersistenceProvider implements PersistenceProvider {
         saveUsers();
     }
 
+    @Override
+    public void saveUsers(@Nonnull Collection<UserData> users) {
+        users.forEach(user -> UserMap.put(user.getUuid(), user));
+        saveUsers();
+    }
+
     private void saveUsers() {
         try (FileWriter fw = new FileWriter(UserFile)) {
             fw.write(gson.toJson(UserMap));
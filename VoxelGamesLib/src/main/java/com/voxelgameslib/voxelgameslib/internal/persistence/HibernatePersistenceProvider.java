@@ -13,9 +13,11 @@ import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +33,8 @@ import com.voxelgameslib.voxelgameslib.api.stats.Trackable;
 import com.voxelgameslib.voxelgameslib.internal.config.ConfigHandler;
 import com.voxelgameslib.voxelgameslib.internal.config.GlobalConfig;
 import com.voxelgameslib.voxelgameslib.internal.error.ErrorHandler;
+import com.voxelgameslib.voxelgameslib.internal.persistence.converter.ComponentConverter;
+import com.voxelgameslib.voxelgameslib.internal.persistence.converter.TrackableConverter;
 import com.voxelgameslib.voxelgameslib.internal.persistence.converter.VGLConverter;
 import com.voxelgameslib.voxelgameslib.internal.persistence.model.GameData;
 import com.voxelgameslib.voxelgameslib.internal.persistence.model.UserData;
@@ -60,6 +64,9 @@ public class HibernatePersistenceProvider implements PersistenceProvider {
     @Inject
     private ErrorHandler errorHandler;
 
+    private final TrackableConverter trackableConverter = new TrackableConverter();
+    private final ComponentConverter componentConverter = new ComponentConverter();
+
     private SessionFactory sessionFactory;
     private CriteriaBuilder cBuilder;
 
@@ -138,6 +145,14 @@ public class HibernatePersistenceProvider implements PersistenceProvider {
         });
     }
 
+    @Override
+    public void saveUsers(@Nonnull Collection<UserData> users) {
+        session(session -> {
+            users.forEach(session::saveOrUpdate);
+            return null;
+        });
+    }
+
     @Override
     @Nonnull
     public Optional<UserData> loadUser(@Nonnull UUID id) {
@@ -147,17 +162,20 @@ public class HibernatePersistenceProvider implements PersistenceProvider {
     @Override
     public List<Pair<Component, Double>> getTopWithName(Trackable type, int amount) {
         return session(session -> {
-            Query query = session.createQuery("select user.displayName, stat.val from StatInstance stat, UserData user\n" +
-                    "where user.uuid = stat.uuid\n" +
-                    "and stat.statType = :type\n" +
-                    "order by stat.val desc");
-            query.setParameter("type", type);
+            // native query so that we get the raw display name and only deserialize the rows we actually return,
+            // the (statType, val) index on the stat table allows the db to do a range scan here
+            NativeQuery query = session.createNativeQuery("select p.display_name, s.val from stat s\n" +
+                    "join players p on p.uuid = s.uuid\n" +
+                    "where s.statType = :type\n" +
+                    "order by s.val desc");
+            // the converters define how the columns are stored, use them so we stay in sync with the entities
+            query.setParameter("type", trackableConverter.convertToDatabaseColumn(type));
             query.setMaxResults(amount);
 
             List<Pair<Component, Double>> result = new ArrayList<>();
             //noinspection unchecked
             for (Object[] row : (List<Object[]>) query.getResultList()) {
-                result.add(new Pair<>((Component) row[0], (Double) row[1]));
+                result.add(new Pair<>(componentConverter.convertToEntityAttribute((String) row[0]), ((Number) row[1]).doubleValue()));
             }
             return result;
         });
@@ -2,6 +2,7 @@ package com.voxelgameslib.voxelgameslib.internal.persistence;
 
 import net.kyori.text.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +38,13 @@ public interface PersistenceProvider extends Handler {
      */
     void saveUser(@Nonnull UserData user);
 
+    /**
+     * Persists the data of multiple users in one go
+     *
+     * @param users the user data to persist
+     */
+    void saveUsers(@Nonnull Collection<UserData> users);
+
     /**
      * Tries to load the data for a user based on a uuid
      *
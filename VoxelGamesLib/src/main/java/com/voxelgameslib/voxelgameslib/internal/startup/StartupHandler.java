@@ -1,6 +1,8 @@
 package com.voxelgameslib.voxelgameslib.internal.startup;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import javax.inject.Singleton;
@@ -13,9 +15,10 @@ public class StartupHandler {
     private static final Logger log = Logger.getLogger(StartupHandler.class.getName());
 
     private Set<String> services = new HashSet<>();
+    private List<Runnable> readyCallbacks = new ArrayList<>();
     private boolean interrupted = false;
 
-    public void registerService(String name) {
+    public synchronized void registerService(String name) {
         if (services.contains(name)) {
             throw new VoxelGameLibException("Service " + name + " is already registered!");
         }
@@ -24,17 +27,42 @@ public class StartupHandler {
     }
 
     public void unregisterService(String name) {
-        if (!services.contains(name)) {
-            throw new VoxelGameLibException("Service " + name + " was already unregistered or was never registered at all!");
+        List<Runnable> callbacks;
+        synchronized (this) {
+            if (!services.contains(name)) {
+                throw new VoxelGameLibException("Service " + name + " was already unregistered or was never registered at all!");
+            }
+            services.remove(name);
+            log.finer("Service " + name + " stopped, " + services.size() + " left");
+            if (!isReady()) {
+                return;
+            }
+            callbacks = readyCallbacks;
+            readyCallbacks = new ArrayList<>();
         }
-        services.remove(name);
-        log.finer("Service " + name + " stopped, " + services.size() + " left");
+        callbacks.forEach(Runnable::run);
     }
 
-    public boolean isReady() {
+    public synchronized boolean isReady() {
         return services.size() == 0;
     }
 
+    /**
+     * Runs the callback once all services are started, right away if they already are. The callback is called on the
+     * thread that stopped the last service, so it should hand off any real work to the scheduler.
+     *
+     * @param callback the callback to run
+     */
+    public void whenReady(Runnable callback) {
+        synchronized (this) {
+            if (!isReady()) {
+                readyCallbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
     public boolean isInterrupted() {
         return interrupted;
     }
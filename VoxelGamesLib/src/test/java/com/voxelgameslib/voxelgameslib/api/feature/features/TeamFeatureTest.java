@@ -0,0 +1,172 @@
+package com.voxelgameslib.voxelgameslib.api.feature.features;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import com.voxelgameslib.voxelgameslib.api.event.events.game.GamePreLeaveEvent;
+import com.voxelgameslib.voxelgameslib.api.event.events.player.PlayerEliminationEvent;
+import com.voxelgameslib.voxelgameslib.api.game.Game;
+import com.voxelgameslib.voxelgameslib.api.phase.Phase;
+import com.voxelgameslib.voxelgameslib.components.team.Team;
+import com.voxelgameslib.voxelgameslib.components.user.User;
+
+import org.bukkit.ChatColor;
+
+import jskills.GameInfo;
+import jskills.IPlayer;
+import jskills.ITeam;
+import jskills.Rating;
+import jskills.trueskill.FactorGraphTrueSkillCalculator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TeamFeatureTest {
+
+    private static final int TEAM_COUNT = 16;
+    private static final int TEAM_SIZE = 2;
+
+    private GameInfo gameInfo = GameInfo.getDefaultGameInfo();
+    private TeamFeature teamFeature;
+    private List<Team> teams;
+    private Game game;
+
+    @Before
+    public void setup() {
+        game = mock(Game.class);
+        Map<UUID, Team> teamMap = new HashMap<>();
+        when(game.getTeam(any())).thenAnswer(inv -> Optional.ofNullable(teamMap.get(inv.<UUID>getArgument(0))));
+        doAnswer(inv -> teamMap.put(inv.getArgument(0), inv.getArgument(1))).when(game).setTeam(any(), any());
+
+        teams = new ArrayList<>();
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            Team team = new Team(TEAM_SIZE, "team" + i, ChatColor.values()[i], game);
+            for (int j = 0; j < TEAM_SIZE; j++) {
+                User user = mock(User.class);
+                when(user.getUuid()).thenReturn(UUID.randomUUID());
+                team.join(user, gameInfo.getDefaultRating());
+            }
+            teams.add(team);
+        }
+
+        Phase phase = mock(Phase.class);
+        when(phase.getGame()).thenReturn(game);
+
+        teamFeature = new TeamFeature();
+        teamFeature.setPhase(phase);
+        teamFeature.teams = teams;
+    }
+
+    @Test
+    public void testOrderedByElimination() {
+        // the last team is eliminated first, so the order should match the team order
+        for (int i = TEAM_COUNT - 1; i > 0; i--) {
+            teamFeature.eliminate(teams.get(i));
+        }
+        // eliminating again shouldn't change anything
+        teamFeature.eliminate(teams.get(TEAM_COUNT - 1));
+
+        List<jskills.Team> ordered = teamFeature.getJSkillTeamsOrdered();
+        assertThat(ordered.size(), is(TEAM_COUNT));
+        assertThat(ordered.get(0), is(sameInstance(teams.get(0).getJskillTeam())));
+        for (int i = 1; i < TEAM_COUNT; i++) {
+            assertThat(ordered.get(i), is(teams.get(i).getJskillTeam()));
+        }
+        int[] expected = IntStream.rangeClosed(1, TEAM_COUNT).toArray();
+        assertThat(teamFeature.getJSkillTeamRanks(), is(expected));
+    }
+
+    @Test
+    public void testLastPlayerLeaving() {
+        Team team = teams.get(TEAM_COUNT - 1);
+        List<User> players = new ArrayList<>(team.getPlayers());
+        teamFeature.onQuit(new GamePreLeaveEvent(game, players.get(0)));
+        assertThat(teamFeature.isEliminated(team), is(false));
+
+        jskills.Team before = new jskills.Team();
+        before.putAll(team.getJskillTeam());
+        teamFeature.onQuit(new GamePreLeaveEvent(game, players.get(1)));
+
+        assertThat(team.getPlayers().isEmpty(), is(true));
+        assertThat(teamFeature.isEliminated(team), is(true));
+        List<jskills.Team> ordered = teamFeature.getJSkillTeamsOrdered();
+        assertThat(ordered.size(), is(TEAM_COUNT));
+        assertThat(ordered.get(TEAM_COUNT - 1), is(before));
+        assertThat(teamFeature.getJSkillTeamRanks()[TEAM_COUNT - 1], is(TEAM_COUNT));
+    }
+
+    @Test
+    public void testEliminatedByDying() {
+        // the teams die one player after the other, the last team dies first
+        for (int i = TEAM_COUNT - 1; i > 0; i--) {
+            Team team = teams.get(i);
+            for (User user : team.getPlayers()) {
+                assertThat(teamFeature.isEliminated(team), is(false));
+                teamFeature.onElimination(new PlayerEliminationEvent(user, game));
+            }
+            assertThat(teamFeature.isEliminated(team), is(true));
+        }
+
+        int[] expected = IntStream.rangeClosed(1, TEAM_COUNT).toArray();
+        assertThat(teamFeature.getJSkillTeamRanks(), is(expected));
+        List<jskills.Team> ordered = teamFeature.getJSkillTeamsOrdered();
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            assertThat(ordered.get(i).size(), is(TEAM_SIZE));
+        }
+    }
+
+    @Test
+    public void testTiedRanks() {
+        teamFeature.eliminate(teams.get(TEAM_COUNT - 1));
+        teamFeature.eliminate(teams.subList(1, TEAM_COUNT - 1));
+
+        int[] ranks = teamFeature.getJSkillTeamRanks();
+        assertThat(ranks.length, is(TEAM_COUNT));
+        assertThat(ranks[0], is(1));
+        for (int i = 1; i < TEAM_COUNT - 1; i++) {
+            assertThat(ranks[i], is(2));
+        }
+        assertThat(ranks[TEAM_COUNT - 1], is(TEAM_COUNT));
+
+        // still alive teams share the first place
+        teamFeature = new TeamFeature();
+        teamFeature.teams = teams;
+        assertThat(Arrays.stream(teamFeature.getJSkillTeamRanks()).allMatch(rank -> rank == 1), is(true));
+    }
+
+    @Test
+    public void testCalculator() {
+        for (int i = TEAM_COUNT - 1; i > 0; i--) {
+            teamFeature.eliminate(teams.get(i));
+        }
+
+        List<ITeam> ordered = new ArrayList<>(teamFeature.getJSkillTeamsOrdered());
+        Map<IPlayer, Rating> newRatings = new FactorGraphTrueSkillCalculator()
+                .calculateNewRatings(gameInfo, ordered, IntStream.rangeClosed(1, TEAM_COUNT).toArray());
+
+        assertThat(newRatings.size(), is(TEAM_COUNT * TEAM_SIZE));
+
+        double defaultMean = gameInfo.getDefaultRating().getMean();
+        for (User winner : teams.get(0).getPlayers()) {
+            assertTrue(newRatings.get(winner).getMean() > defaultMean);
+        }
+        for (User loser : teams.get(TEAM_COUNT - 1).getPlayers()) {
+            assertTrue(newRatings.get(loser).getMean() < defaultMean);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.voxelgameslib.voxelgameslib.api.phase;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+import com.voxelgameslib.voxelgameslib.api.condition.AbstractVictoryCondition;
+import com.voxelgameslib.voxelgameslib.api.event.EventHandler;
+import com.voxelgameslib.voxelgameslib.api.event.GameEvent;
+import com.voxelgameslib.voxelgameslib.api.event.events.game.GameJoinEvent;
+import com.voxelgameslib.voxelgameslib.api.feature.AbstractFeature;
+import com.voxelgameslib.voxelgameslib.api.game.Game;
+import com.voxelgameslib.voxelgameslib.command.CommandHandler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.PluginManager;
+
+import co.aikar.commands.BukkitCommandManager;
+import co.aikar.commands.lib.timings.TimingManager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AbstractPhaseTest {
+
+    private static final int GAME_COUNT = 10000;
+
+    private EventHandler eventHandler;
+
+    @BeforeClass
+    public static void setupServer() {
+        if (Bukkit.getServer() == null) {
+            Server server = mock(Server.class);
+            when(server.getLogger()).thenReturn(Logger.getLogger("Server"));
+            when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+            Bukkit.setServer(server);
+        }
+    }
+
+    @Before
+    public void setup() {
+        eventHandler = new EventHandler();
+    }
+
+    @Test
+    public void testListenersDontLeak() {
+        for (int i = 0; i < GAME_COUNT; i++) {
+            Game game = mock(Game.class);
+            when(game.getUuid()).thenReturn(UUID.randomUUID());
+
+            AbstractPhase phase = createPhase(game);
+            phase.enable();
+            assertThat(eventHandler.getListenerCount(), is(2));
+            phase.disable();
+
+            assertThat(eventHandler.getListenerCount(), is(0));
+            assertThat(eventHandler.checkForLeaks(Collections.emptyList()).size(), is(0));
+        }
+    }
+
+    @Test
+    public void testLeakDetector() {
+        Game game = mock(Game.class);
+        when(game.getUuid()).thenReturn(UUID.randomUUID());
+
+        eventHandler.registerEvents(new TestFeature(), game);
+        assertThat(eventHandler.checkForLeaks(Collections.singletonList(game)).size(), is(0));
+        assertThat(eventHandler.getListenerCount(), is(1));
+
+        assertThat(eventHandler.checkForLeaks(Collections.emptyList()).size(), is(1));
+        assertThat(eventHandler.getListenerCount(), is(0));
+    }
+
+    @Nonnull
+    private AbstractPhase createPhase(@Nonnull Game game) {
+        AbstractPhase phase = new AbstractPhase() {
+
+        };
+        inject(phase, "eventHandler", eventHandler);
+        inject(phase, "commandManager", mock(BukkitCommandManager.class));
+        inject(phase, "commandHandler", mock(CommandHandler.class));
+        inject(phase, "timingManager", mock(TimingManager.class));
+        phase.setName("TestPhase");
+        phase.setGame(game);
+        phase.addFeature(new TestFeature());
+        phase.addVictoryCondition(new TestVictoryCondition());
+        return phase;
+    }
+
+    private void inject(@Nonnull AbstractPhase phase, @Nonnull String name, @Nonnull Object value) {
+        try {
+            Field field = AbstractPhase.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(phase, value);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static class TestFeature extends AbstractFeature {
+
+        @GameEvent
+        public void onJoin(@Nonnull GameJoinEvent event) {
+
+        }
+    }
+
+    public static class TestVictoryCondition extends AbstractVictoryCondition implements Listener {
+
+        @GameEvent
+        public void onJoin(@Nonnull GameJoinEvent event) {
+
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.voxelgameslib.voxelgameslib.internal.math;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KdTreeTest {
+
+    private final Random random = new Random(1337);
+
+    @Test
+    public void testMatchesBruteForce() {
+        for (int run = 0; run < 200; run++) {
+            List<Vector3D> points = new ArrayList<>();
+            int pointCount = 1 + random.nextInt(100);
+            for (int i = 0; i < pointCount; i++) {
+                points.add(randomPoint());
+            }
+            double[][] others = new double[1 + random.nextInt(10)][];
+            for (int i = 0; i < others.length; i++) {
+                Vector3D other = randomPoint();
+                others[i] = new double[]{other.getX(), other.getY(), other.getZ()};
+            }
+
+            KdTree tree = new KdTree(points);
+            int found = tree.findFarthest(others);
+
+            // several points can have the same score, so compare the scores and not the indices
+            assertThat(score(points.get(found), others), is(bruteForce(points, others)));
+        }
+    }
+
+    @Test
+    public void testSinglePoint() {
+        List<Vector3D> points = new ArrayList<>();
+        points.add(new Vector3D(1, 2, 3));
+        KdTree tree = new KdTree(points);
+        assertThat(tree.findFarthest(new double[][]{{0, 0, 0}}), is(0));
+    }
+
+    private Vector3D randomPoint() {
+        // block positions, so there are plenty of equal coordinates
+        return new Vector3D(random.nextInt(64) - 32, random.nextInt(16), random.nextInt(64) - 32);
+    }
+
+    private double bruteForce(List<Vector3D> points, double[][] others) {
+        double best = -1;
+        for (Vector3D point : points) {
+            best = Math.max(best, score(point, others));
+        }
+        return best;
+    }
+
+    private double score(Vector3D point, double[][] others) {
+        double nearest = Double.POSITIVE_INFINITY;
+        for (double[] other : others) {
+            nearest = Math.min(nearest, point.distanceSquared(other[0], other[1], other[2]));
+        }
+        return nearest;
+    }
+}
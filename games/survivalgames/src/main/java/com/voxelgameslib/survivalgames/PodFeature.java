@@ -3,7 +3,6 @@ package com.voxelgameslib.survivalgames;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
@@ -13,13 +12,16 @@ import com.voxelgameslib.voxelgameslib.api.feature.Feature;
 import com.voxelgameslib.voxelgameslib.api.feature.FeatureInfo;
 import com.voxelgameslib.voxelgameslib.api.feature.features.MapFeature;
 import com.voxelgameslib.voxelgameslib.components.map.BasicMarkerDefinition;
+import com.voxelgameslib.voxelgameslib.components.map.Marker;
 import com.voxelgameslib.voxelgameslib.components.map.MarkerDefinition;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
 import org.bukkit.material.PistonBaseMaterial;
 
 @FeatureInfo(name = "PodFeature", author = "MiniDigger", version = "1.0", description = "Is responsible for pushing up players so they can leave their spawn pod")
@@ -34,25 +36,31 @@ public class PodFeature extends AbstractFeature {
     @Override
     public void enable() {
         MapFeature mapFeature = getPhase().getFeature(MapFeature.class);
-        List<Location> locations = mapFeature.getMap().getMarkers(spawnMarker).stream()
-                .map(marker -> marker.getLoc().toLocation(mapFeature.getWorld().getName())).collect(Collectors.toList());
+        World world = mapFeature.getWorld();
+        List<Marker> markers = mapFeature.getMap().getMarkers(spawnMarker);
+        Location[] locations = new Location[markers.size()];
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = markers.get(i).getLoc().toLocation(world);
+        }
 
         powerRelative(locations, 2);
 
         Bukkit.getScheduler().runTaskLater(voxelGamesLib, () -> powerRelative(locations, 0), 20);
     }
 
-    private void powerRelative(List<Location> locations, int rel) {
-        locations.forEach(loc -> {
+    private void powerRelative(@Nonnull Location[] locations, int rel) {
+        for (Location loc : locations) {
             Block block = loc.getBlock().getRelative(BlockFace.DOWN, rel);
             if (block.getType() != Material.STICKY_PISTON) {
                 log.warning("Invalid block at " + block.getLocation().toVector().toString() + ": Expected a PistonBase, got " + block.getType());
-                return;
+                continue;
             }
-            PistonBaseMaterial piston = (PistonBaseMaterial) block.getState().getData();
+            BlockState state = block.getState();
+            PistonBaseMaterial piston = (PistonBaseMaterial) state.getData();
             piston.setPowered(true);
-            block.getState().update(true);
-        });
+            state.setData(piston);
+            state.update(true);
+        }
     }
 
     @Nonnull